@@ -0,0 +1,101 @@
+package com.example.usertemplate.auth.security;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.user.entity.User;
+import com.example.usertemplate.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 인증 필터 한 번의 비용 (토큰 캐시/principal 캐시 적중 상태). DB 는 findById 만 응답하는 스텁
+// ./gradlew jmh -Pjmh.includes=JwtAuthenticationFilterBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final String SECRET =
+      "myVerySecretKeyForJwtTokenGenerationAndValidationThatMustBeLongEnough";
+
+  @Param({"DATABASE", "CLAIMS"})
+  private AuthenticationMode authenticationMode;
+
+  private JwtAuthenticationFilter filter;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+  private FilterChain chain;
+
+  @Setup
+  public void setUp() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    JwtTokenProvider provider = new JwtTokenProvider(SECRET, 86400000, true);
+    User user =
+        User.builder()
+            .id(42L)
+            .username("benchmark")
+            .email("benchmark@example.com")
+            .password("unused")
+            .role(Role.USER)
+            .build();
+
+    PrincipalCache principalCache =
+        new PrincipalCache(
+            userRepository(user), meterRegistry, 10_000, Duration.ofMinutes(5), 86400000);
+    filter =
+        new JwtAuthenticationFilter(
+            new VerifiedTokenCache(provider, meterRegistry, true, 10_000, Duration.ofHours(1)),
+            principalCache,
+            new TokenDenylist(meterRegistry, 1024),
+            new AuthenticationMetrics(meterRegistry));
+    ReflectionTestUtils.setField(filter, "authenticationMode", authenticationMode);
+
+    request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+    request.addHeader(
+        "Authorization", "Bearer " + provider.generateAccessToken(UserPrincipal.from(user)));
+    response = new MockHttpServletResponse();
+    chain = (req, res) -> {};
+  }
+
+  @Benchmark
+  public Authentication doFilterInternal() throws Exception {
+    filter.doFilterInternal(request, response, chain);
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    SecurityContextHolder.clearContext();
+    return authentication;
+  }
+
+  private static UserRepository userRepository(User user) {
+    return (UserRepository)
+        Proxy.newProxyInstance(
+            UserRepository.class.getClassLoader(),
+            new Class<?>[] {UserRepository.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "findById" -> Optional.of(user);
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> "UserRepositoryStub";
+                  default -> throw new UnsupportedOperationException(method.getName());
+                });
+  }
+}
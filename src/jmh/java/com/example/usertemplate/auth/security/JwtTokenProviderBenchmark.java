@@ -0,0 +1,45 @@
+package com.example.usertemplate.auth.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.usertemplate.user.entity.Role;
+
+// 토큰 발급과 (jjwt) 검증 비용
+// ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+  private static final String SECRET =
+      "myVerySecretKeyForJwtTokenGenerationAndValidationThatMustBeLongEnough";
+
+  private JwtTokenProvider provider;
+  private UserPrincipal principal;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    provider = new JwtTokenProvider(SECRET, 86400000, true);
+    principal = new UserPrincipal(42L, Role.USER, true, true, 0);
+    token = provider.generateAccessToken(principal);
+  }
+
+  @Benchmark
+  public String generateAccessToken() {
+    return provider.generateAccessToken(principal);
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return provider.validateToken(token);
+  }
+}
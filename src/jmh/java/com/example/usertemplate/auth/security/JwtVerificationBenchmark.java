@@ -0,0 +1,51 @@
+package com.example.usertemplate.auth.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.usertemplate.user.entity.Role;
+
+// 기존 validateToken + getUserIdAsLongFromToken (jjwt 두 번 파싱) 과
+// parseToken (빠른 HMAC 경로 / jjwt 한 번 파싱) 비교
+// ./gradlew jmh -Pjmh.includes=JwtVerificationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtVerificationBenchmark {
+
+  private static final String SECRET =
+      "myVerySecretKeyForJwtTokenGenerationAndValidationThatMustBeLongEnough";
+
+  private JwtTokenProvider jjwtProvider;
+  private JwtTokenProvider fastProvider;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jjwtProvider = new JwtTokenProvider(SECRET, 86400000, false);
+    fastProvider = new JwtTokenProvider(SECRET, 86400000, true);
+    token = fastProvider.generateAccessToken(new UserPrincipal(42L, Role.USER, true, true, 0));
+  }
+
+  @Benchmark
+  public Long validateThenGetUserId() {
+    return jjwtProvider.validateToken(token) ? jjwtProvider.getUserIdAsLongFromToken(token) : null;
+  }
+
+  @Benchmark
+  public VerifiedToken parseTokenJjwt() {
+    return jjwtProvider.parseToken(token);
+  }
+
+  @Benchmark
+  public VerifiedToken parseTokenFast() {
+    return fastProvider.parseToken(token);
+  }
+}
@@ -0,0 +1,136 @@
+package com.example.usertemplate.global.common;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.usertemplate.global.config.ApiResponseHttpMessageConverter;
+import com.example.usertemplate.user.dto.UserResponse;
+import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// DTO 변환(UserResponse.from, PageResponse.of)과 ApiResponse JSON 직렬화 비용.
+// write* 는 컨트롤러 반환 타입으로 HttpMessageConverter 를 거치는 실제 응답 경로
+// (jackson* = 스프링 기본 컨버터, cached* = ApiResponseHttpMessageConverter)
+// ./gradlew jmh -Pjmh.includes=ResponseBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  // 스프링 부트 기본값과 같은 설정 (JavaTimeModule 등록, 날짜는 ISO 문자열)
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private User user;
+  private List<User> users;
+  private ApiResponse<UserResponse> userBody;
+  private ApiResponse<PageResponse<UserResponse>> pageBody;
+
+  // GET /users/me, GET /admin/users 의 반환 타입
+  private final Type userBodyType =
+      ResolvableType.forClassWithGenerics(ApiResponse.class, UserResponse.class).getType();
+  private final Type pageBodyType =
+      ResolvableType.forClassWithGenerics(
+              ApiResponse.class,
+              ResolvableType.forClassWithGenerics(PageResponse.class, UserResponse.class))
+          .getType();
+
+  private final MappingJackson2HttpMessageConverter jacksonConverter =
+      new MappingJackson2HttpMessageConverter(objectMapper);
+  private final ApiResponseHttpMessageConverter cachedConverter =
+      new ApiResponseHttpMessageConverter(objectMapper);
+
+  @Setup
+  public void setUp() {
+    users = new ArrayList<>(PAGE_SIZE);
+    for (long id = 1; id <= PAGE_SIZE; id++) {
+      users.add(user(id));
+    }
+    user = users.get(0);
+    userBody = ApiResponse.success("User retrieved successfully", UserResponse.from(user));
+    pageBody = ApiResponse.success("Users retrieved successfully", pageResponseOf());
+  }
+
+  @Benchmark
+  public UserResponse userResponseFrom() {
+    return UserResponse.from(user);
+  }
+
+  @Benchmark
+  public PageResponse<UserResponse> pageResponseOf() {
+    return PageResponse.of(users.stream().map(UserResponse::from).toList(), 0, PAGE_SIZE, 1000);
+  }
+
+  @Benchmark
+  public byte[] serializeUserApiResponse() throws Exception {
+    return objectMapper.writeValueAsBytes(userBody);
+  }
+
+  @Benchmark
+  public byte[] serializePageApiResponse() throws Exception {
+    return objectMapper.writeValueAsBytes(pageBody);
+  }
+
+  @Benchmark
+  public MockHttpOutputMessage jacksonWriteUser() throws IOException {
+    MockHttpOutputMessage message = new MockHttpOutputMessage();
+    jacksonConverter.write(userBody, userBodyType, MediaType.APPLICATION_JSON, message);
+    return message;
+  }
+
+  @Benchmark
+  public MockHttpOutputMessage cachedWriteUser() throws IOException {
+    MockHttpOutputMessage message = new MockHttpOutputMessage();
+    cachedConverter.write(userBody, userBodyType, MediaType.APPLICATION_JSON, message);
+    return message;
+  }
+
+  @Benchmark
+  public MockHttpOutputMessage jacksonWritePage() throws IOException {
+    MockHttpOutputMessage message = new MockHttpOutputMessage();
+    jacksonConverter.write(pageBody, pageBodyType, MediaType.APPLICATION_JSON, message);
+    return message;
+  }
+
+  @Benchmark
+  public MockHttpOutputMessage cachedWritePage() throws IOException {
+    MockHttpOutputMessage message = new MockHttpOutputMessage();
+    cachedConverter.write(pageBody, pageBodyType, MediaType.APPLICATION_JSON, message);
+    return message;
+  }
+
+  private static User user(long id) {
+    User user =
+        User.builder()
+            .id(id)
+            .username("user" + id)
+            .email("user" + id + "@example.com")
+            .password("unused")
+            .role(Role.USER)
+            .build();
+    LocalDateTime now = LocalDateTime.now();
+    ReflectionTestUtils.setField(user, "createdAt", now);
+    ReflectionTestUtils.setField(user, "updatedAt", now);
+    return user;
+  }
+}
@@ -0,0 +1,127 @@
+package com.example.usertemplate.global.logging;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+
+// 요청 스레드가 log.info 한 번에 쓰는 시간. SYNC 는 기존 구성(패턴 + 동기 파일 쓰기),
+// ASYNC 는 prod 구성(JSON + AsyncAppender), ASYNC_RATE_LIMITED 는 여기에 로거별 한도를 더한 것
+// ./gradlew jmh -Pjmh.includes=LoggingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class LoggingBenchmark {
+
+  public enum Pipeline {
+    SYNC,
+    ASYNC,
+    ASYNC_RATE_LIMITED
+  }
+
+  @Param({"SYNC", "ASYNC", "ASYNC_RATE_LIMITED"})
+  private Pipeline pipeline;
+
+  private Path file;
+  private LoggerContext context;
+  private Logger logger;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    file = Files.createTempFile("logging-benchmark", ".log");
+    context = new LoggerContext();
+    // StructuredLogEncoder 는 로거 컨텍스트에 등록된 Environment 를 사용한다
+    context.putObject(Environment.class.getName(), new StandardEnvironment());
+
+    FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+    fileAppender.setContext(context);
+    fileAppender.setFile(file.toString());
+    fileAppender.setAppend(false);
+    fileAppender.setEncoder(pipeline == Pipeline.SYNC ? patternEncoder() : jsonEncoder());
+    fileAppender.start();
+
+    Appender<ILoggingEvent> appender = fileAppender;
+    if (pipeline != Pipeline.SYNC) {
+      AsyncAppender asyncAppender = new AsyncAppender();
+      asyncAppender.setContext(context);
+      asyncAppender.setQueueSize(8192);
+      asyncAppender.setNeverBlock(true);
+      asyncAppender.setIncludeCallerData(false);
+      asyncAppender.addAppender(fileAppender);
+      asyncAppender.start();
+      appender = asyncAppender;
+    }
+    if (pipeline == Pipeline.ASYNC_RATE_LIMITED) {
+      LoggerRateLimitFilter filter = new LoggerRateLimitFilter();
+      filter.setContext(context);
+      filter.start();
+      context.addTurboFilter(filter);
+    }
+
+    Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.setLevel(ch.qos.logback.classic.Level.INFO);
+    root.addAppender(appender);
+    logger = context.getLogger("com.example.usertemplate.admin.service.AdminServiceImpl");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    context.stop();
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public void logInfo() {
+    logger.info("Admin: User updated successfully: {}", 42L);
+  }
+
+  // 꺼진 레벨 호출 비용 (TurboFilter 가 있으면 레벨 확인 전에 호출된다)
+  @Benchmark
+  public void logDisabledDebug() {
+    logger.debug("🔍 JWT Filter - Token extracted: {}", "present");
+  }
+
+  private Encoder<ILoggingEvent> patternEncoder() {
+    PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(context);
+    encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n");
+    encoder.setCharset(StandardCharsets.UTF_8);
+    encoder.start();
+    return encoder;
+  }
+
+  private Encoder<ILoggingEvent> jsonEncoder() {
+    StructuredLogEncoder encoder = new StructuredLogEncoder();
+    encoder.setContext(context);
+    encoder.setFormat("ecs");
+    encoder.setCharset(StandardCharsets.UTF_8);
+    encoder.start();
+    return encoder;
+  }
+}
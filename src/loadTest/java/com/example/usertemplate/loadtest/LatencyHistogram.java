@@ -0,0 +1,76 @@
+package com.example.usertemplate.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 마이크로초 단위 log-linear 히스토그램. 2 의 거듭제곱 구간마다 64 개 버킷으로 나눠 상대 오차가 1.6% 이하이며,
+// 동시 기록은 버킷별 원자적 증가로 처리한다 (HdrHistogram 과 같은 방식, 외부 의존성 없음)
+class LatencyHistogram {
+
+  private static final int LINEAR_LIMIT = 128;
+  private static final int SUB_BUCKETS = 64;
+  private static final int MAX_SHIFT = 63 - 6;
+
+  private final AtomicLongArray counts =
+      new AtomicLongArray(LINEAR_LIMIT + MAX_SHIFT * SUB_BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  void record(long micros) {
+    long value = Math.max(0, micros);
+    counts.incrementAndGet(index(value));
+    count.incrementAndGet();
+    sum.addAndGet(value);
+    max.accumulateAndGet(value, Math::max);
+  }
+
+  long count() {
+    return count.get();
+  }
+
+  long max() {
+    return max.get();
+  }
+
+  double mean() {
+    long n = count.get();
+    return n == 0 ? 0 : (double) sum.get() / n;
+  }
+
+  // 해당 백분위 이하 값이 모두 들어가는 버킷의 상한 (기록된 최댓값을 넘지 않음)
+  long percentile(double percentile) {
+    long total = count.get();
+    if (total == 0) {
+      return 0;
+    }
+    long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      seen += counts.get(i);
+      if (seen >= target) {
+        return Math.min(upperBound(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  // 127 이하는 값 그대로, 그 위는 최상위 7 비트(64..127)로 버킷을 정한다
+  static int index(long value) {
+    if (value < LINEAR_LIMIT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+    int sub = (int) (value >>> shift);
+    return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (sub - SUB_BUCKETS);
+  }
+
+  static long upperBound(int index) {
+    if (index < LINEAR_LIMIT) {
+      return index;
+    }
+    int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+    long sub = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+    return ((sub + 1) << shift) - 1;
+  }
+}
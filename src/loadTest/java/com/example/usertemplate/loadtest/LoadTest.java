@@ -0,0 +1,479 @@
+package com.example.usertemplate.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.usertemplate.UsertemplateApplication;
+import com.example.usertemplate.auth.security.JwtTokenProvider;
+import com.example.usertemplate.auth.security.UserPrincipal;
+import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.user.entity.User;
+import com.example.usertemplate.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 애플리케이션을 H2 test 프로파일로 띄우고 주요 엔드포인트에 혼합 부하를 건다.
+// ./gradlew loadTest --args="--users=1000 --rate=200 --duration=PT30S"
+//
+// 요청은 고정 도착률(open loop)로 예정 시각에 가상 스레드에서 보내고, 지연 시간은 실제 전송 시각이 아닌
+// 예정 시각부터 잰다. 서버가 밀려 전송이 늦어진 시간도 지연에 포함되므로 coordinated omission 이 생기지 않는다
+@Slf4j
+public final class LoadTest {
+
+  private static final String PASSWORD = "loadtest-password";
+  private static final int SEED_CHUNK_SIZE = 500;
+  private static final int ADMIN_PAGE_SIZE = 20;
+
+  enum Operation {
+    REGISTER,
+    LOGIN,
+    GET_ME,
+    UPDATE_ME,
+    ADMIN_USERS
+  }
+
+  private record Seeded(String username, String token) {}
+
+  private record Pending(Operation operation, long intended) {}
+
+  private final Options options;
+  private final HttpClient client;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final AtomicLong sequence = new AtomicLong();
+  private final String runId = Long.toString(System.currentTimeMillis(), 36);
+  // 실제로 응답을 기다리는 요청 수 (드레인 시한에 기록된 요청도 끝날 때까지 포함)
+  private final LongAdder inFlight = new LongAdder();
+
+  private String baseUrl;
+  private List<Seeded> users;
+  private String adminToken;
+
+  private LoadTest(Options options, ExecutorService executor) {
+    this.options = options;
+    this.client =
+        HttpClient.newBuilder()
+            .executor(executor)
+            .connectTimeout(Duration.ofSeconds(5))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options options = Options.parse(args);
+    try (ConfigurableApplicationContext context = start(options);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      LoadTest loadTest = new LoadTest(options, executor);
+      loadTest.baseUrl =
+          "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+      loadTest.seed(context);
+
+      log.info("Warming up for {}", options.warmup());
+      loadTest.run(options.warmup(), executor);
+      loadTest.awaitIdle();
+      log.info("Measuring for {} at {} req/s", options.duration(), options.rate());
+      Map<String, Object> report = loadTest.run(options.duration(), executor);
+
+      String json =
+          loadTest
+              .objectMapper
+              .copy()
+              .enable(SerializationFeature.INDENT_OUTPUT)
+              .writeValueAsString(report);
+      Files.createDirectories(options.output().toAbsolutePath().getParent());
+      Files.writeString(options.output(), json);
+      System.out.println(json);
+      log.info("Results written to {}", options.output().toAbsolutePath());
+    }
+  }
+
+  // 부하 측정을 왜곡하지 않도록 SQL/DEBUG 로그는 끈다
+  // 점이 들어간 인자(--web.response.cached-writers=false 등)는 애플리케이션 설정으로 넘긴다
+  private static ConfigurableApplicationContext start(Options options) {
+    List<String> args =
+        new ArrayList<>(
+            List.of(
+                "--spring.profiles.active=" + options.profiles(),
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.example.usertemplate=WARN",
+                "--logging.level.com.example.usertemplate.loadtest=INFO",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.hibernate.SQL=WARN"));
+    options.properties().forEach((key, value) -> args.add("--" + key + "=" + value));
+    return SpringApplication.run(UsertemplateApplication.class, args.toArray(String[]::new));
+  }
+
+  // HTTP 를 거치지 않고 한 번의 해시와 multi-row INSERT 로 사용자를 만들고 토큰을 발급한다
+  private void seed(ConfigurableApplicationContext context) {
+    UserRepository userRepository = context.getBean(UserRepository.class);
+    JwtTokenProvider tokenProvider = context.getBean(JwtTokenProvider.class);
+    String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+    List<User> chunk = new ArrayList<>(SEED_CHUNK_SIZE);
+    for (int i = 0; i < options.users(); i++) {
+      chunk.add(
+          User.builder()
+              .username("lt-" + runId + "-" + i)
+              .email("lt-" + runId + "-" + i + "@loadtest.local")
+              .password(hash)
+              .role(Role.USER)
+              .build());
+      if (chunk.size() == SEED_CHUNK_SIZE || i == options.users() - 1) {
+        userRepository.insertAll(chunk);
+        chunk.clear();
+      }
+    }
+
+    User admin =
+        userRepository.save(
+            User.builder()
+                .username("lt-" + runId + "-admin")
+                .email("lt-" + runId + "-admin@loadtest.local")
+                .password(hash)
+                .role(Role.ADMIN)
+                .build());
+    adminToken = tokenProvider.generateAccessToken(UserPrincipal.from(admin));
+
+    String prefix = "lt-" + runId + "-";
+    users =
+        userRepository.findAll().stream()
+            .filter(user -> user.getRole() == Role.USER && user.getUsername().startsWith(prefix))
+            .map(
+                user ->
+                    new Seeded(
+                        user.getUsername(),
+                        tokenProvider.generateAccessToken(UserPrincipal.from(user))))
+            .toList();
+    log.info("Seeded {} users", users.size());
+  }
+
+  private Map<String, Object> run(Duration duration, ExecutorService executor)
+      throws InterruptedException {
+    Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    for (Operation operation : Operation.values()) {
+      stats.put(operation, new Stats());
+    }
+    Stats all = new Stats();
+    AtomicLong lastCompletion = new AtomicLong(Long.MIN_VALUE);
+    // 아직 기록되지 않은 요청. 완료와 드레인 시한 중 먼저 꺼낸 쪽이 한 번만 기록한다
+    Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+    long start = System.nanoTime();
+    long end = start + duration.toNanos();
+    Instant startedAt = Instant.now();
+
+    // 예정 시각까지 기다렸다가 요청을 넘긴다. 디스패처가 늦어져도 예정 시각은 그대로 유지된다
+    for (long i = 0; ; i++) {
+      long intended = start + i * intervalNanos;
+      if (intended >= end) {
+        break;
+      }
+      long wait;
+      while ((wait = intended - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      Operation operation = options.pick();
+      long key = i;
+      pending.put(key, new Pending(operation, intended));
+      inFlight.increment();
+      executor.execute(
+          () -> {
+            try {
+              int status = send(operation);
+              long now = System.nanoTime();
+              if (pending.remove(key) != null) {
+                long micros = TimeUnit.NANOSECONDS.toMicros(now - intended);
+                stats.get(operation).record(micros, status);
+                all.record(micros, status);
+                lastCompletion.accumulateAndGet(now, Math::max);
+              }
+            } finally {
+              inFlight.decrement();
+            }
+          });
+    }
+
+    // 측정 구간에 보낸 요청이 모두 끝날 때까지 기다린다
+    long deadline = System.nanoTime() + options.drainTimeout().toNanos();
+    while (!pending.isEmpty() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    // 시한까지 끝나지 않은 요청을 빼면 가장 느린 꼬리가 사라진다 (coordinated omission).
+    // 시한 시점까지의 지연과 상태 0(타임아웃)으로 기록한다
+    long unfinished = 0;
+    for (Map.Entry<Long, Pending> entry : pending.entrySet()) {
+      if (pending.remove(entry.getKey()) != null) {
+        Pending request = entry.getValue();
+        long micros = TimeUnit.NANOSECONDS.toMicros(deadline - request.intended());
+        stats.get(request.operation()).record(micros, 0);
+        all.record(micros, 0);
+        lastCompletion.accumulateAndGet(deadline, Math::max);
+        unfinished++;
+      }
+    }
+    double elapsedSeconds = Math.max(1, Math.max(end, lastCompletion.get()) - start) / 1e9;
+
+    Map<String, Object> operations = new LinkedHashMap<>();
+    stats.forEach(
+        (operation, s) -> {
+          if (s.histogram.count() > 0) {
+            operations.put(operation.name(), s.toMap(elapsedSeconds));
+          }
+        });
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("startedAt", startedAt.toString());
+    report.put("options", options.toMap());
+    report.put("elapsedSeconds", round(elapsedSeconds));
+    report.put("unfinished", unfinished);
+    report.put("total", all.toMap(elapsedSeconds));
+    report.put("operations", operations);
+    return report;
+  }
+
+  // 워밍업 요청이 측정 구간과 겹치지 않도록 모두 끝날 때까지 기다린다. 요청마다 타임아웃이 있으므로
+  // 그 시간이 지나면 끝나야 하지만, 멈춘 요청 때문에 측정이 시작되지 않는 일은 없도록 한 번 더 기다린 뒤 넘어간다
+  private void awaitIdle() throws InterruptedException {
+    long deadline = System.nanoTime() + 2 * options.requestTimeout().toNanos();
+    while (inFlight.sum() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    if (inFlight.sum() > 0) {
+      log.warn("{} warm-up requests still in flight", inFlight.sum());
+    }
+  }
+
+  // HTTP 상태 코드를 반환한다. 타임아웃이나 연결 오류는 0
+  private int send(Operation operation) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Seeded user = users.get(random.nextInt(users.size()));
+    HttpRequest.Builder request =
+        switch (operation) {
+          case REGISTER -> {
+            String name = "lt-" + runId + "-r" + sequence.incrementAndGet();
+            yield post(
+                "/api/v1/auth/register",
+                Map.of("username", name, "email", name + "@loadtest.local", "password", PASSWORD));
+          }
+          case LOGIN ->
+              post(
+                  "/api/v1/auth/login",
+                  Map.of("username", user.username(), "password", PASSWORD));
+          case GET_ME -> request("/api/v1/users/me").GET().header("Authorization", bearer(user));
+          case UPDATE_ME ->
+              put(
+                      "/api/v1/users/me",
+                      Map.of(
+                          "email",
+                          user.username() + "-" + sequence.incrementAndGet() + "@loadtest.local"))
+                  .header("Authorization", bearer(user));
+          case ADMIN_USERS -> {
+            int pages = Math.max(1, users.size() / ADMIN_PAGE_SIZE);
+            yield request(
+                    "/api/v1/admin/users?page="
+                        + random.nextInt(pages)
+                        + "&size="
+                        + ADMIN_PAGE_SIZE)
+                .GET()
+                .header("Authorization", "Bearer " + adminToken);
+          }
+        };
+    try {
+      return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    } catch (IOException ex) {
+      return 0;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return 0;
+    }
+  }
+
+  private HttpRequest.Builder request(String path) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(options.requestTimeout());
+  }
+
+  private HttpRequest.Builder post(String path, Object body) {
+    return request(path)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(json(body)));
+  }
+
+  private HttpRequest.Builder put(String path, Object body) {
+    return request(path)
+        .header("Content-Type", "application/json")
+        .PUT(HttpRequest.BodyPublishers.ofString(json(body)));
+  }
+
+  private String json(Object body) {
+    try {
+      return objectMapper.writeValueAsString(body);
+    } catch (IOException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static String bearer(Seeded user) {
+    return "Bearer " + user.token();
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 1000) / 1000.0;
+  }
+
+  // 연산별 지연 시간 히스토그램과 상태 코드별 건수
+  private static final class Stats {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+
+    void record(long micros, int status) {
+      histogram.record(micros);
+      statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+      if (status < 200 || status >= 300) {
+        errors.increment();
+      }
+    }
+
+    Map<String, Object> toMap(double elapsedSeconds) {
+      Map<String, Object> latency = new LinkedHashMap<>();
+      latency.put("p50", millis(histogram.percentile(50)));
+      latency.put("p90", millis(histogram.percentile(90)));
+      latency.put("p99", millis(histogram.percentile(99)));
+      latency.put("p999", millis(histogram.percentile(99.9)));
+      latency.put("max", millis(histogram.max()));
+      latency.put("mean", round(histogram.mean() / 1000));
+
+      Map<String, Long> statusCounts = new LinkedHashMap<>();
+      statuses.entrySet().stream()
+          .sorted(Map.Entry.comparingByKey())
+          .forEach(e -> statusCounts.put(String.valueOf(e.getKey()), e.getValue().sum()));
+
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("requests", histogram.count());
+      map.put("errors", errors.sum());
+      map.put("throughputPerSecond", round(histogram.count() / elapsedSeconds));
+      map.put("latencyMillis", latency);
+      map.put("statuses", statusCounts);
+      return map;
+    }
+
+    private static double millis(long micros) {
+      return round(micros / 1000.0);
+    }
+  }
+
+  // --key=value 형식의 인자. 생략하면 기본값
+  private record Options(
+      int users,
+      int rate,
+      Duration warmup,
+      Duration duration,
+      Duration requestTimeout,
+      Duration drainTimeout,
+      Map<Operation, Integer> mix,
+      int totalWeight,
+      String profiles,
+      Map<String, String> properties,
+      Path output) {
+
+    static Options parse(String[] args) {
+      Map<String, String> values = new LinkedHashMap<>();
+      for (String arg : args) {
+        int eq = arg.indexOf('=');
+        if (!arg.startsWith("--") || eq < 0) {
+          throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+        }
+        values.put(arg.substring(2, eq), arg.substring(eq + 1));
+      }
+      Map<String, String> properties = new LinkedHashMap<>();
+      values.forEach(
+          (key, value) -> {
+            if (key.contains(".")) {
+              properties.put(key, value);
+            }
+          });
+
+      Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+      String mixValue =
+          values.getOrDefault("mix", "REGISTER:5,LOGIN:15,GET_ME:50,UPDATE_ME:15,ADMIN_USERS:15");
+      for (String entry : mixValue.split(",")) {
+        String[] parts = entry.split(":");
+        int weight = Integer.parseInt(parts[1].trim());
+        if (weight > 0) {
+          mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), weight);
+        }
+      }
+      if (mix.isEmpty()) {
+        throw new IllegalArgumentException("mix must contain at least one positive weight");
+      }
+
+      int users = Integer.parseInt(values.getOrDefault("users", "1000"));
+      int rate = Integer.parseInt(values.getOrDefault("rate", "200"));
+      if (users < 1 || rate < 1) {
+        throw new IllegalArgumentException("users and rate must be positive");
+      }
+      return new Options(
+          users,
+          rate,
+          Duration.parse(values.getOrDefault("warmup", "PT10S")),
+          Duration.parse(values.getOrDefault("duration", "PT30S")),
+          Duration.parse(values.getOrDefault("request-timeout", "PT10S")),
+          Duration.parse(values.getOrDefault("drain-timeout", "PT30S")),
+          mix,
+          mix.values().stream().mapToInt(Integer::intValue).sum(),
+          values.getOrDefault("profiles", "test"),
+          properties,
+          Path.of(values.getOrDefault("output", "build/load-test/results.json")));
+    }
+
+    Operation pick() {
+      int r = ThreadLocalRandom.current().nextInt(totalWeight);
+      for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+        r -= entry.getValue();
+        if (r < 0) {
+          return entry.getKey();
+        }
+      }
+      throw new IllegalStateException();
+    }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("users", users);
+      map.put("rate", rate);
+      map.put("warmup", warmup.toString());
+      map.put("duration", duration.toString());
+      map.put("profiles", profiles);
+      map.put("properties", properties);
+      map.put("mix", mix);
+      return map;
+    }
+  }
+}
@@ -1,19 +1,35 @@
 package com.example.usertemplate.admin.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import com.example.usertemplate.admin.dto.ExportFormat;
+import com.example.usertemplate.admin.dto.UserBulkRequest;
+import com.example.usertemplate.admin.dto.UserBulkResult;
+import com.example.usertemplate.admin.dto.UserImportResult;
+import com.example.usertemplate.admin.dto.UserSortField;
 import com.example.usertemplate.admin.service.AdminService;
 import com.example.usertemplate.global.common.ApiResponse;
+import com.example.usertemplate.global.common.CursorPageResponse;
+import com.example.usertemplate.global.common.EntityTags;
 import com.example.usertemplate.global.common.PageResponse;
 import com.example.usertemplate.user.dto.UserResponse;
 import com.example.usertemplate.user.dto.UserUpdateRequest;
+import com.example.usertemplate.user.service.UserEntityTags;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -30,7 +46,10 @@ import lombok.extern.slf4j.Slf4j;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final AdminService adminService;
+  private final UserEntityTags userEntityTags;
 
   @GetMapping("/users")
   @Operation(summary = "Get all users", description = "Get all users with pagination")
@@ -39,60 +58,135 @@ public class AdminController {
       @RequestParam(defaultValue = "10") int size,
       @RequestParam(defaultValue = "id") String sortBy,
       @RequestParam(defaultValue = "asc") String sortDir) {
-    try {
-      log.info("Admin: Getting all users - page: {}, size: {}", page, size);
-
-      Sort sort =
-          sortDir.equalsIgnoreCase("desc")
-              ? Sort.by(sortBy).descending()
-              : Sort.by(sortBy).ascending();
-      Pageable pageable = PageRequest.of(page, size, sort);
-
-      PageResponse<UserResponse> users = adminService.getAllUsers(pageable);
-      return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
-    } catch (Exception ex) {
-      log.error("Admin: Failed to get all users: ", ex);
-      throw ex;
-    }
+    log.debug("Admin: Getting all users - page: {}, size: {}", page, size);
+
+    Sort sort = Sort.by(direction(sortDir), UserSortField.from(sortBy).property());
+    Pageable pageable = PageRequest.of(page, size, sort);
+
+    PageResponse<UserResponse> users = adminService.getAllUsers(pageable);
+    return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
+  }
+
+  @GetMapping(value = "/users", params = "paging=cursor")
+  @Operation(
+      summary = "Get all users by cursor",
+      description = "Get all users with keyset pagination (pass nextCursor to get the next page)")
+  public ResponseEntity<ApiResponse<CursorPageResponse<UserResponse>>> getUsersByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "id") String sortBy,
+      @RequestParam(defaultValue = "asc") String sortDir,
+      @RequestParam(defaultValue = "false") boolean withTotal) {
+    log.debug("Admin: Getting users by cursor - size: {}, sortBy: {}", size, sortBy);
+
+    CursorPageResponse<UserResponse> users =
+        adminService.getUsersByCursor(
+            cursor,
+            Math.max(1, Math.min(size, MAX_PAGE_SIZE)),
+            UserSortField.from(sortBy),
+            direction(sortDir),
+            withTotal);
+    return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
+  }
+
+  @GetMapping("/users/export")
+  @Operation(
+      summary = "Export users",
+      description = "Stream all users as NDJSON or CSV (format=ndjson|csv)")
+  public void exportUsers(
+      @RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+      throws IOException {
+    ExportFormat exportFormat = ExportFormat.from(format);
+    log.info("Admin: Exporting users - format: {}", exportFormat);
+    response.setContentType(exportFormat.contentType());
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename=\"users." + exportFormat.extension() + "\"");
+    adminService.exportUsers(exportFormat, response.getOutputStream());
+  }
+
+  @PostMapping(value = "/users/import", consumes = {"text/csv", "text/plain"})
+  @Operation(
+      summary = "Import users",
+      description =
+          "Bulk import users from a CSV body with header username,email,password[,role]."
+              + " Invalid and duplicate rows are reported and skipped")
+  public ResponseEntity<ApiResponse<UserImportResult>> importUsers(InputStream body)
+      throws IOException {
+    log.info("Admin: Importing users");
+    UserImportResult result = adminService.importUsers(body);
+    return ResponseEntity.ok(ApiResponse.success("Users imported", result));
+  }
+
+  @PostMapping("/users/bulk")
+  @Operation(
+      summary = "Bulk update users",
+      description =
+          "Lock, unlock, enable, disable, change the role of, or delete the users given by ids or"
+              + " filter. Returns a result per user; the calling admin is always skipped")
+  public ResponseEntity<ApiResponse<UserBulkResult>> bulkUpdate(
+      @Valid @RequestBody UserBulkRequest request, Authentication authentication) {
+    Long adminId = Long.valueOf(((UserDetails) authentication.getPrincipal()).getUsername());
+    log.debug("Admin: Bulk {} by user ID: {}", request.action(), adminId);
+    UserBulkResult result = adminService.bulkUpdate(request, adminId);
+    return ResponseEntity.ok(ApiResponse.success("Bulk operation completed", result));
   }
 
   @GetMapping("/users/{id}")
-  @Operation(summary = "Get user by ID", description = "Get a specific user by their ID")
-  public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable Long id) {
-    try {
-      log.info("Admin: Getting user by ID: {}", id);
-      UserResponse user = adminService.getUserById(id);
-      return ResponseEntity.ok(ApiResponse.success("User retrieved successfully", user));
-    } catch (Exception ex) {
-      log.error("Admin: Failed to get user by ID: ", ex);
-      throw ex;
+  @Operation(
+      summary = "Get user by ID",
+      description =
+          "Get a specific user by their ID."
+              + " Returns 304 when If-None-Match matches the current ETag")
+  public ResponseEntity<ApiResponse<UserResponse>> getUserById(
+      @PathVariable Long id,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    log.debug("Admin: Getting user by ID: {}", id);
+
+    // 대상 사용자가 최근에 인증해 principal 캐시에 있으면 DB 조회 없이 비교한다
+    String cachedETag = userEntityTags.cached(id);
+    if (EntityTags.matches(ifNoneMatch, cachedETag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(cachedETag)
+          .cacheControl(EntityTags.REVALIDATE)
+          .build();
     }
+
+    UserResponse user = adminService.getUserById(id);
+    return ResponseEntity.ok()
+        .eTag(UserEntityTags.of(user))
+        .cacheControl(EntityTags.REVALIDATE)
+        .body(ApiResponse.success("User retrieved successfully", user));
   }
 
   @PutMapping("/users/{id}")
-  @Operation(summary = "Update user", description = "Update a user's information")
+  @Operation(
+      summary = "Update user",
+      description =
+          "Update a user's information."
+              + " With If-Match, the update only applies to that ETag's version (412 otherwise)")
   public ResponseEntity<ApiResponse<UserResponse>> updateUser(
-      @PathVariable Long id, @Valid @RequestBody UserUpdateRequest request) {
-    try {
-      log.info("Admin: Updating user ID: {}", id);
-      UserResponse user = adminService.updateUser(id, request);
-      return ResponseEntity.ok(ApiResponse.success("User updated successfully", user));
-    } catch (Exception ex) {
-      log.error("Admin: Failed to update user: ", ex);
-      throw ex;
-    }
+      @PathVariable Long id,
+      @Valid @RequestBody UserUpdateRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    log.debug("Admin: Updating user ID: {}", id);
+    // If-Match 가 있으면 그 버전일 때만 변경한다 (다른 관리자가 먼저 수정했으면 412)
+    long expectedVersion = EntityTags.expectedVersion(ifMatch, id);
+    UserResponse user = adminService.updateUser(id, request, expectedVersion);
+    return ResponseEntity.ok()
+        .eTag(UserEntityTags.of(user))
+        .body(ApiResponse.success("User updated successfully", user));
   }
 
   @DeleteMapping("/users/{id}")
   @Operation(summary = "Delete user", description = "Delete a user account")
   public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable Long id) {
-    try {
-      log.info("Admin: Deleting user ID: {}", id);
-      adminService.deleteUser(id);
-      return ResponseEntity.ok(ApiResponse.success("User deleted successfully", null));
-    } catch (Exception ex) {
-      log.error("Admin: Failed to delete user: ", ex);
-      throw ex;
-    }
+    log.debug("Admin: Deleting user ID: {}", id);
+    adminService.deleteUser(id);
+    return ResponseEntity.ok(ApiResponse.success("User deleted successfully", null));
+  }
+
+  private static Sort.Direction direction(String sortDir) {
+    return sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
   }
 }
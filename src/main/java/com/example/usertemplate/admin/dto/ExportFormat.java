@@ -0,0 +1,34 @@
+package com.example.usertemplate.admin.dto;
+
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+
+public enum ExportFormat {
+  NDJSON("application/x-ndjson", "ndjson"),
+  CSV("text/csv;charset=UTF-8", "csv");
+
+  private final String contentType;
+  private final String extension;
+
+  ExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String contentType() {
+    return contentType;
+  }
+
+  public String extension() {
+    return extension;
+  }
+
+  public static ExportFormat from(String value) {
+    for (ExportFormat format : values()) {
+      if (format.name().equalsIgnoreCase(value)) {
+        return format;
+      }
+    }
+    throw new BusinessException(ErrorCode.INVALID_FORMAT, "Unsupported export format: " + value);
+  }
+}
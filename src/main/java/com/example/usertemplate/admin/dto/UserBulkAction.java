@@ -0,0 +1,21 @@
+package com.example.usertemplate.admin.dto;
+
+public enum UserBulkAction {
+  LOCK(true),
+  UNLOCK(false),
+  ENABLE(false),
+  DISABLE(true),
+  CHANGE_ROLE(true),
+  DELETE(true);
+
+  private final boolean revokesTokens;
+
+  UserBulkAction(boolean revokesTokens) {
+    this.revokesTokens = revokesTokens;
+  }
+
+  // 적용되면 tokenVersion 이 올라가 기존 토큰이 거부되는 작업인지
+  public boolean revokesTokens() {
+    return revokesTokens;
+  }
+}
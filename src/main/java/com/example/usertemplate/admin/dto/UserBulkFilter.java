@@ -0,0 +1,26 @@
+package com.example.usertemplate.admin.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.usertemplate.user.entity.Role;
+
+// 벌크 작업 대상 조건. null 인 조건은 적용하지 않으며 createdTo 는 포함하지 않는다
+public record UserBulkFilter(
+    Role role,
+    Boolean enabled,
+    Boolean locked,
+    LocalDateTime createdFrom,
+    LocalDateTime createdTo) {
+
+  public boolean isEmpty() {
+    return role == null
+        && enabled == null
+        && locked == null
+        && createdFrom == null
+        && createdTo == null;
+  }
+
+  public Boolean accountNonLocked() {
+    return locked == null ? null : !locked;
+  }
+}
@@ -0,0 +1,12 @@
+package com.example.usertemplate.admin.dto;
+
+// 대상 사용자별 결과. UNCHANGED 는 이미 요청한 상태였던 경우, SKIPPED 는 요청한 관리자 본인이다
+public record UserBulkItem(Long id, Status status) {
+
+  public enum Status {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND,
+    SKIPPED
+  }
+}
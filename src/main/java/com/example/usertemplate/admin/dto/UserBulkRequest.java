@@ -0,0 +1,11 @@
+package com.example.usertemplate.admin.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+
+import com.example.usertemplate.user.entity.Role;
+
+// ids 와 filter 중 하나로 대상을 지정한다. role 은 CHANGE_ROLE 일 때만 쓴다
+public record UserBulkRequest(
+    @NotNull UserBulkAction action, List<@NotNull Long> ids, UserBulkFilter filter, Role role) {}
@@ -0,0 +1,28 @@
+package com.example.usertemplate.admin.dto;
+
+import java.util.List;
+
+// truncated 는 filter 에 맞는 사용자가 admin.bulk.max-users 보다 많아 일부만 처리한 경우
+public record UserBulkResult(
+    UserBulkAction action,
+    long updated,
+    long unchanged,
+    long notFound,
+    long skipped,
+    boolean truncated,
+    List<UserBulkItem> results) {
+
+  public static UserBulkResult of(
+      UserBulkAction action, boolean truncated, List<UserBulkItem> results) {
+    long[] counts = new long[UserBulkItem.Status.values().length];
+    results.forEach(item -> counts[item.status().ordinal()]++);
+    return new UserBulkResult(
+        action,
+        counts[UserBulkItem.Status.UPDATED.ordinal()],
+        counts[UserBulkItem.Status.UNCHANGED.ordinal()],
+        counts[UserBulkItem.Status.NOT_FOUND.ordinal()],
+        counts[UserBulkItem.Status.SKIPPED.ordinal()],
+        truncated,
+        results);
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.usertemplate.admin.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+import com.example.usertemplate.user.entity.User;
+
+// 키셋 페이지네이션 커서. 정렬 컬럼/방향과 마지막 행의 정렬 키 + ID 를 담아 base64url 로 인코딩한 불투명 문자열
+public record UserCursor(UserSortField sortField, Sort.Direction direction, Object value, Long id) {
+
+  private static final String VERSION = "v1";
+  private static final String SEPARATOR = "|";
+
+  public static UserCursor after(UserSortField sortField, Sort.Direction direction, User user) {
+    return new UserCursor(sortField, direction, sortField.valueOf(user), user.getId());
+  }
+
+  public String encode() {
+    String raw =
+        String.join(
+            SEPARATOR,
+            VERSION,
+            sortField.name(),
+            direction.name(),
+            String.valueOf(id),
+            value.toString());
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static UserCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      // 정렬 값(마지막 항목)에는 구분자가 포함될 수 있으므로 앞의 4개만 분리한다
+      String[] parts = raw.split("\\|", 5);
+      if (parts.length != 5 || !VERSION.equals(parts[0])) {
+        throw invalidCursor();
+      }
+      UserSortField sortField = UserSortField.valueOf(parts[1]);
+      return new UserCursor(
+          sortField,
+          Sort.Direction.valueOf(parts[2]),
+          sortField.parse(parts[4]),
+          Long.valueOf(parts[3]));
+    } catch (RuntimeException ex) {
+      throw invalidCursor();
+    }
+  }
+
+  private static BusinessException invalidCursor() {
+    return new BusinessException(ErrorCode.INVALID_CURSOR);
+  }
+}
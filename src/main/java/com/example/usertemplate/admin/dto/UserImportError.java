@@ -0,0 +1,5 @@
+package com.example.usertemplate.admin.dto;
+
+// 가져오지 못한 행. line 은 헤더를 포함한 파일의 줄 번호
+public record UserImportError(
+    long line, String username, String email, String code, String message) {}
@@ -0,0 +1,16 @@
+package com.example.usertemplate.admin.dto;
+
+import java.util.List;
+
+// errors 는 앞에서부터 admin.import.max-reported-errors 건까지만 담는다 (넘으면 errorsTruncated)
+public record UserImportResult(
+    long total,
+    long imported,
+    long failed,
+    List<UserImportError> errors,
+    boolean errorsTruncated) {
+  public static UserImportResult of(
+      long total, long imported, long failed, List<UserImportError> errors) {
+    return new UserImportResult(total, imported, failed, errors, failed > errors.size());
+  }
+}
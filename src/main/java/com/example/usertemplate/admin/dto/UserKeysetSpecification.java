@@ -0,0 +1,38 @@
+package com.example.usertemplate.admin.dto;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.usertemplate.user.entity.User;
+
+// 커서 이후의 행만 조회하는 조건: (key > :value) or (key = :value and id > :id). 내림차순이면 부등호 반대
+// OFFSET 없이 (정렬 컬럼, id) 인덱스를 범위 탐색하므로 페이지 위치와 관계없이 비용이 일정하다
+public final class UserKeysetSpecification {
+
+  private UserKeysetSpecification() {}
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static Specification<User> after(UserCursor cursor) {
+    return (root, query, cb) -> {
+      boolean asc = cursor.direction().isAscending();
+      Path<Long> id = root.get("id");
+      Predicate afterId = asc ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+      if (cursor.sortField() == UserSortField.ID) {
+        return afterId;
+      }
+      Path<Comparable> key = root.get(cursor.sortField().property());
+      Comparable value = (Comparable) cursor.value();
+      Predicate afterKey = asc ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+      return cb.or(afterKey, cb.and(cb.equal(key, value), afterId));
+    };
+  }
+
+  public static Sort sort(UserSortField sortField, Sort.Direction direction) {
+    return sortField == UserSortField.ID
+        ? Sort.by(direction, "id")
+        : Sort.by(direction, sortField.property(), "id");
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.usertemplate.admin.dto;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+import com.example.usertemplate.user.entity.User;
+
+// 관리자 목록에서 정렬에 사용할 수 있는 컬럼 (모두 인덱스가 있는 컬럼만 허용)
+public enum UserSortField {
+  ID("id", User::getId, Long::valueOf),
+  USERNAME("username", User::getUsername, value -> value),
+  EMAIL("email", User::getEmail, value -> value),
+  CREATED_AT("createdAt", User::getCreatedAt, LocalDateTime::parse);
+
+  private final String property;
+  private final Function<User, Object> extractor;
+  private final Function<String, Object> parser;
+
+  UserSortField(
+      String property, Function<User, Object> extractor, Function<String, Object> parser) {
+    this.property = property;
+    this.extractor = extractor;
+    this.parser = parser;
+  }
+
+  public String property() {
+    return property;
+  }
+
+  public Object valueOf(User user) {
+    return extractor.apply(user);
+  }
+
+  public Object parse(String value) {
+    return parser.apply(value);
+  }
+
+  public static UserSortField from(String value) {
+    for (UserSortField field : values()) {
+      if (field.property.equalsIgnoreCase(value) || field.name().equalsIgnoreCase(value)) {
+        return field;
+      }
+    }
+    throw new BusinessException(ErrorCode.INVALID_SORT_FIELD, "Unsupported sort field: " + value);
+  }
+}
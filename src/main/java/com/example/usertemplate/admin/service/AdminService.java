@@ -1,7 +1,18 @@
 package com.example.usertemplate.admin.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import com.example.usertemplate.admin.dto.ExportFormat;
+import com.example.usertemplate.admin.dto.UserBulkRequest;
+import com.example.usertemplate.admin.dto.UserBulkResult;
+import com.example.usertemplate.admin.dto.UserImportResult;
+import com.example.usertemplate.admin.dto.UserSortField;
+import com.example.usertemplate.global.common.CursorPageResponse;
 import com.example.usertemplate.global.common.PageResponse;
 import com.example.usertemplate.user.dto.UserResponse;
 import com.example.usertemplate.user.dto.UserUpdateRequest;
@@ -10,9 +21,24 @@ public interface AdminService {
 
   PageResponse<UserResponse> getAllUsers(Pageable pageable);
 
+  CursorPageResponse<UserResponse> getUsersByCursor(
+      String cursor,
+      int size,
+      UserSortField sortField,
+      Sort.Direction direction,
+      boolean withTotal);
+
+  long exportUsers(ExportFormat format, OutputStream out) throws IOException;
+
+  UserImportResult importUsers(InputStream csv) throws IOException;
+
   UserResponse getUserById(Long id);
 
-  UserResponse updateUser(Long id, UserUpdateRequest request);
+  // expectedVersion 은 If-Match 의 버전 (확인하지 않으면 EntityTags.ANY_VERSION)
+  UserResponse updateUser(Long id, UserUpdateRequest request, long expectedVersion);
 
   void deleteUser(Long id);
+
+  // adminId 는 요청한 관리자 (대상에서 제외된다)
+  UserBulkResult bulkUpdate(UserBulkRequest request, Long adminId);
 }
@@ -1,19 +1,40 @@
 package com.example.usertemplate.admin.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usertemplate.admin.dto.ExportFormat;
+import com.example.usertemplate.admin.dto.UserBulkRequest;
+import com.example.usertemplate.admin.dto.UserBulkResult;
+import com.example.usertemplate.admin.dto.UserCursor;
+import com.example.usertemplate.admin.dto.UserImportResult;
+import com.example.usertemplate.admin.dto.UserKeysetSpecification;
+import com.example.usertemplate.admin.dto.UserSortField;
+import com.example.usertemplate.auth.security.PrincipalCache;
+import com.example.usertemplate.global.common.CursorPageResponse;
 import com.example.usertemplate.global.common.PageResponse;
 import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+import com.example.usertemplate.user.dto.UserExportRow;
 import com.example.usertemplate.user.dto.UserResponse;
 import com.example.usertemplate.user.dto.UserUpdateRequest;
 import com.example.usertemplate.user.entity.User;
+import com.example.usertemplate.user.repository.UserConstraints;
 import com.example.usertemplate.user.repository.UserRepository;
+import com.example.usertemplate.user.service.UserAvailabilityIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,11 +46,17 @@ public class AdminServiceImpl implements AdminService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final PrincipalCache principalCache;
+  private final UserExportWriter userExportWriter;
+  private final UserImporter userImporter;
+  private final UserBulkOperator userBulkOperator;
+  private final UserAvailabilityIndex availabilityIndex;
+  private final TransactionTemplate transactionTemplate;
 
   @Override
   @Transactional(readOnly = true)
   public PageResponse<UserResponse> getAllUsers(Pageable pageable) {
-    log.info("Admin: Getting all users");
+    log.debug("Admin: Getting all users");
     Page<User> userPage = userRepository.findAll(pageable);
     List<UserResponse> userResponses =
         userPage.getContent().stream().map(UserResponse::from).toList();
@@ -40,44 +67,112 @@ public class AdminServiceImpl implements AdminService {
 
   @Override
   @Transactional(readOnly = true)
-  public UserResponse getUserById(Long id) {
-    log.info("Admin: Getting user by ID: {}", id);
-    User user =
-        userRepository
-            .findById(id)
-            .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
-    return UserResponse.from(user);
+  public CursorPageResponse<UserResponse> getUsersByCursor(
+      String cursor,
+      int size,
+      UserSortField sortField,
+      Sort.Direction direction,
+      boolean withTotal) {
+    log.debug("Admin: Getting users by cursor - sort: {} {}, size: {}", sortField, direction, size);
+
+    Specification<User> spec = Specification.where(null);
+    if (cursor != null && !cursor.isBlank()) {
+      UserCursor after = UserCursor.decode(cursor);
+      // 커서는 발급 당시의 정렬 기준에서만 유효하다
+      if (after.sortField() != sortField || after.direction() != direction) {
+        throw new BusinessException(ErrorCode.INVALID_CURSOR, "Cursor does not match sort order");
+      }
+      spec = UserKeysetSpecification.after(after);
+    }
+
+    // 다음 페이지 존재 여부를 COUNT 없이 알기 위해 한 건 더 조회한다
+    List<User> users =
+        userRepository.findBy(
+            spec,
+            query ->
+                query
+                    .sortBy(UserKeysetSpecification.sort(sortField, direction))
+                    .limit(size + 1)
+                    .all());
+
+    boolean hasNext = users.size() > size;
+    List<User> page = hasNext ? users.subList(0, size) : users;
+    String nextCursor =
+        hasNext ? UserCursor.after(sortField, direction, page.get(size - 1)).encode() : null;
+    Long totalElements = withTotal ? userRepository.count() : null;
+
+    return CursorPageResponse.of(
+        page.stream().map(UserResponse::from).toList(), size, nextCursor, totalElements);
   }
 
   @Override
-  @Transactional
-  public UserResponse updateUser(Long id, UserUpdateRequest request) {
-    log.info("Admin: Updating user ID: {}", id);
+  @Transactional(readOnly = true)
+  public long exportUsers(ExportFormat format, OutputStream out) throws IOException {
+    log.info("Admin: Exporting users as {}", format);
+    try (Stream<UserExportRow> rows = userRepository.streamAllForExport()) {
+      long count = userExportWriter.write(format, rows, out);
+      log.info("Admin: Exported {} users", count);
+      return count;
+    }
+  }
+
+  // 청크마다 개별 커밋하도록 트랜잭션 없이 실행한다
+  @Override
+  public UserImportResult importUsers(InputStream csv) throws IOException {
+    log.info("Admin: Importing users");
+    return userImporter.importCsv(csv);
+  }
 
+  @Override
+  @Transactional(readOnly = true)
+  public UserResponse getUserById(Long id) {
+    log.debug("Admin: Getting user by ID: {}", id);
     User user =
         userRepository
             .findById(id)
-            .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
-
-    if (request.username() != null && !request.username().equals(user.getUsername())) {
-      if (userRepository.existsByUsername(request.username())) {
-        throw new BusinessException("Username already exists", 409, "DUPLICATE_USERNAME");
-      }
-      user.setUsername(request.username());
-    }
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    return UserResponse.from(user);
+  }
 
-    if (request.email() != null && !request.email().equals(user.getEmail())) {
-      if (userRepository.existsByEmail(request.email())) {
-        throw new BusinessException("Email already exists", 409, "DUPLICATE_EMAIL");
-      }
-      user.setEmail(request.email());
+  // 조회 후 전체 행 UPDATE 대신 버전 조건부 UPDATE 한 번으로 변경한다. 해시는 트랜잭션 밖에서 계산한다
+  @Override
+  public UserResponse updateUser(Long id, UserUpdateRequest request, long expectedVersion) {
+    log.debug("Admin: Updating user ID: {}", id);
+
+    String encodedPassword =
+        request.password() == null ? null : passwordEncoder.encode(request.password());
+
+    // 중복 검사는 unique 제약 조건 위반으로 처리한다. 변환에 조회가 필요할 수 있으므로 롤백된 뒤에 변환한다
+    try {
+      return transactionTemplate.execute(
+          status -> update(id, request, expectedVersion, encodedPassword));
+    } catch (DataIntegrityViolationException ex) {
+      throw UserConstraints.translate(ex, userRepository, id, request.username(), request.email());
     }
+  }
 
-    if (request.password() != null) {
-      user.setPassword(passwordEncoder.encode(request.password()));
+  private UserResponse update(
+      Long id, UserUpdateRequest request, long expectedVersion, String encodedPassword) {
+    int updated =
+        userRepository.updateFields(
+            id,
+            expectedVersion,
+            request.username(),
+            request.email(),
+            encodedPassword,
+            encodedPassword == null ? 0 : 1);
+    if (updated == 0) {
+      return UserResponse.from(unchanged(id, expectedVersion));
     }
 
-    User updatedUser = userRepository.save(user);
+    // 응답 본문과 토큰 폐기 기준 버전은 변경된 행을 PK 로 다시 읽어 얻는다
+    User updatedUser =
+        userRepository
+            .findById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    principalCache.revoke(id, updatedUser.getTokenVersion());
+    // 이전 값은 읽지 않으므로 인덱스에서 빼지 않는다 (주기적 재생성 때 정리된다)
+    availabilityIndex.add(request.username(), request.email());
     log.info("Admin: User updated successfully: {}", id);
 
     return UserResponse.from(updatedUser);
@@ -86,14 +181,32 @@ public class AdminServiceImpl implements AdminService {
   @Override
   @Transactional
   public void deleteUser(Long id) {
-    log.info("Admin: Deleting user ID: {}", id);
+    log.debug("Admin: Deleting user ID: {}", id);
 
-    User user =
+    // 삭제 표시만 한다. username/email 은 UserPurger 가 행을 지울 때까지 사용 중으로 남는다
+    if (userRepository.softDelete(id) == 0) {
+      throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+    }
+    principalCache.revokeAll(id);
+    log.info("Admin: User deleted successfully: {}", id);
+  }
+
+  // 청크마다 개별 커밋하도록 트랜잭션 없이 실행한다
+  @Override
+  public UserBulkResult bulkUpdate(UserBulkRequest request, Long adminId) {
+    log.info("Admin: Bulk {} requested by user ID: {}", request.action(), adminId);
+    return userBulkOperator.apply(request, adminId);
+  }
+
+  // 조건부 UPDATE 가 0 행일 때: 없는 사용자와 버전 충돌은 예외, 바뀌는 값이 없었으면 현재 상태
+  private User unchanged(Long id, long expectedVersion) {
+    User current =
         userRepository
             .findById(id)
-            .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
-
-    userRepository.delete(user);
-    log.info("Admin: User deleted successfully: {}", id);
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    if (expectedVersion >= 0 && current.getVersion() != expectedVersion) {
+      throw new BusinessException(ErrorCode.VERSION_CONFLICT);
+    }
+    return current;
   }
 }
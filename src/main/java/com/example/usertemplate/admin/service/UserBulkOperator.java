@@ -0,0 +1,199 @@
+package com.example.usertemplate.admin.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usertemplate.admin.dto.UserBulkAction;
+import com.example.usertemplate.admin.dto.UserBulkFilter;
+import com.example.usertemplate.admin.dto.UserBulkItem;
+import com.example.usertemplate.admin.dto.UserBulkRequest;
+import com.example.usertemplate.admin.dto.UserBulkResult;
+import com.example.usertemplate.auth.security.PrincipalCache;
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+import com.example.usertemplate.user.dto.UserAccountState;
+import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.user.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 여러 사용자에 같은 작업을 적용한다. 대상은 청크 단위로 현재 상태 조회 -> 조건부 UPDATE 한 번 -> principal 캐시
+// 일괄 제거 순으로 처리하고 청크마다 커밋한다. 요청한 관리자 본인은 항상 제외한다
+@Slf4j
+@Component
+public class UserBulkOperator {
+
+  private final UserRepository userRepository;
+  private final PrincipalCache principalCache;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int maxUsers;
+
+  public UserBulkOperator(
+      UserRepository userRepository,
+      PrincipalCache principalCache,
+      TransactionTemplate transactionTemplate,
+      @Value("${admin.bulk.chunk-size:500}") int chunkSize,
+      @Value("${admin.bulk.max-users:10000}") int maxUsers) {
+    this.userRepository = userRepository;
+    this.principalCache = principalCache;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+    this.maxUsers = maxUsers;
+  }
+
+  public UserBulkResult apply(UserBulkRequest request, Long adminId) {
+    validate(request);
+    List<UserBulkItem> results = new ArrayList<>();
+    boolean truncated = false;
+
+    if (request.ids() != null) {
+      List<Long> ids = List.copyOf(new LinkedHashSet<>(request.ids()));
+      if (ids.size() > maxUsers) {
+        throw new BusinessException(
+            ErrorCode.INVALID_ARGUMENT, "At most " + maxUsers + " ids are allowed");
+      }
+      for (int from = 0; from < ids.size(); from += chunkSize) {
+        List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + chunkSize));
+        results.addAll(applyChunk(request, chunk, adminId));
+      }
+    } else {
+      // id 순 keyset 으로 읽으므로 앞 청크의 변경으로 조건에서 빠진 행 때문에 건너뛰는 행이 없다
+      long afterId = 0;
+      while (results.size() < maxUsers) {
+        int limit = Math.min(chunkSize, maxUsers - results.size());
+        List<Long> chunk = findIds(request.filter(), afterId, limit);
+        if (chunk.isEmpty()) {
+          break;
+        }
+        results.addAll(applyChunk(request, chunk, adminId));
+        afterId = chunk.get(chunk.size() - 1);
+        if (chunk.size() < limit) {
+          break;
+        }
+      }
+      truncated = results.size() >= maxUsers && !findIds(request.filter(), afterId, 1).isEmpty();
+    }
+
+    UserBulkResult result = UserBulkResult.of(request.action(), truncated, results);
+    log.info(
+        "Admin: Bulk {} - updated: {}, unchanged: {}, not found: {}, skipped: {}",
+        result.action(),
+        result.updated(),
+        result.unchanged(),
+        result.notFound(),
+        result.skipped());
+    return result;
+  }
+
+  private void validate(UserBulkRequest request) {
+    if ((request.ids() == null) == (request.filter() == null)) {
+      throw new BusinessException(
+          ErrorCode.INVALID_ARGUMENT, "Exactly one of ids or filter is required");
+    }
+    // 빈 조건으로 전체 사용자가 대상이 되는 실수를 막는다
+    if (request.filter() != null && request.filter().isEmpty()) {
+      throw new BusinessException(
+          ErrorCode.INVALID_ARGUMENT, "Filter needs at least one condition");
+    }
+    if (request.action() == UserBulkAction.CHANGE_ROLE && request.role() == null) {
+      throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "Role is required for CHANGE_ROLE");
+    }
+  }
+
+  private List<Long> findIds(UserBulkFilter filter, long afterId, int limit) {
+    return userRepository.findIdsByFilter(
+        afterId,
+        filter.role(),
+        filter.enabled(),
+        filter.accountNonLocked(),
+        filter.createdFrom(),
+        filter.createdTo(),
+        PageRequest.of(0, limit));
+  }
+
+  private List<UserBulkItem> applyChunk(UserBulkRequest request, List<Long> ids, Long adminId) {
+    return transactionTemplate.execute(
+        status -> {
+          Map<Long, UserAccountState> states =
+              userRepository.findAllByIdForUpdate(ids).stream()
+                  .map(UserAccountState::from)
+                  .collect(Collectors.toMap(UserAccountState::id, Function.identity()));
+
+          List<UserBulkItem> items = new ArrayList<>(ids.size());
+          List<Long> targets = new ArrayList<>();
+          for (Long id : ids) {
+            UserAccountState state = states.get(id);
+            UserBulkItem.Status itemStatus;
+            if (id.equals(adminId)) {
+              itemStatus = UserBulkItem.Status.SKIPPED;
+            } else if (state == null) {
+              itemStatus = UserBulkItem.Status.NOT_FOUND;
+            } else if (isApplied(request.action(), request.role(), state)) {
+              itemStatus = UserBulkItem.Status.UNCHANGED;
+            } else {
+              itemStatus = UserBulkItem.Status.UPDATED;
+              targets.add(id);
+            }
+            items.add(new UserBulkItem(id, itemStatus));
+          }
+          if (targets.isEmpty()) {
+            return items;
+          }
+
+          // 조회한 행은 잠겨 있으므로 targets 가 그대로 UPDATE 로 바뀌는 행이다
+          update(request.action(), request.role(), targets);
+          invalidate(request.action(), targets, states);
+          return items;
+        });
+  }
+
+  private static boolean isApplied(UserBulkAction action, Role role, UserAccountState state) {
+    return switch (action) {
+      case LOCK -> !state.accountNonLocked();
+      case UNLOCK -> state.accountNonLocked();
+      case ENABLE -> state.enabled();
+      case DISABLE -> !state.enabled();
+      case CHANGE_ROLE -> state.role() == role;
+      case DELETE -> false;
+    };
+  }
+
+  private int update(UserBulkAction action, Role role, List<Long> ids) {
+    return switch (action) {
+      case LOCK -> userRepository.updateAccountNonLocked(ids, false, 1);
+      case UNLOCK -> userRepository.updateAccountNonLocked(ids, true, 0);
+      case ENABLE -> userRepository.updateEnabled(ids, true, 0);
+      case DISABLE -> userRepository.updateEnabled(ids, false, 1);
+      case CHANGE_ROLE -> userRepository.updateRole(ids, role);
+      case DELETE -> userRepository.softDeleteAll(ids);
+    };
+  }
+
+  // 청크의 대상 사용자를 principal 캐시에서 한 번에 제거한다. tokenVersion 이 오른 작업이면
+  // 조회한 버전 + 1 을 최소 유효 버전으로 (삭제는 모든 토큰을 거부)
+  private void invalidate(
+      UserBulkAction action, List<Long> ids, Map<Long, UserAccountState> states) {
+    if (!action.revokesTokens()) {
+      principalCache.evict(ids);
+      return;
+    }
+    Map<Long, Long> tokenVersions = new HashMap<>();
+    for (Long id : ids) {
+      tokenVersions.put(
+          id,
+          action == UserBulkAction.DELETE ? Long.MAX_VALUE : states.get(id).tokenVersion() + 1);
+    }
+    principalCache.revoke(tokenVersions);
+  }
+}
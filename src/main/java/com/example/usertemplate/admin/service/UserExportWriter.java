@@ -0,0 +1,114 @@
+package com.example.usertemplate.admin.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.example.usertemplate.admin.dto.ExportFormat;
+import com.example.usertemplate.user.dto.UserExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// 조회되는 행을 바로 출력 스트림에 쓴다. 전체 목록을 메모리에 모으지 않는다
+@Component
+public class UserExportWriter {
+
+  private static final String CSV_HEADER =
+      "id,username,email,role,enabled,accountNonLocked,createdAt,updatedAt";
+
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter rowWriter;
+
+  public UserExportWriter(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    // 기본값이면 writeValue 가 행마다 응답 스트림을 flush 해 행 하나가 청크 하나로 나간다
+    this.rowWriter =
+        objectMapper
+            .writerFor(UserExportRow.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  // 반환값: 기록한 행 수
+  public long write(ExportFormat format, Stream<UserExportRow> rows, OutputStream out)
+      throws IOException {
+    return switch (format) {
+      case NDJSON -> writeNdjson(rows, out);
+      case CSV -> writeCsv(rows, out);
+    };
+  }
+
+  private long writeNdjson(Stream<UserExportRow> rows, OutputStream out) throws IOException {
+    long count = 0;
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      // 응답 스트림은 서블릿 컨테이너가 닫는다
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+      Iterator<UserExportRow> iterator = rows.iterator();
+      while (iterator.hasNext()) {
+        rowWriter.writeValue(generator, iterator.next());
+        generator.writeRaw('\n');
+        count++;
+      }
+      generator.flush();
+    }
+    return count;
+  }
+
+  private long writeCsv(Stream<UserExportRow> rows, OutputStream out) throws IOException {
+    long count = 0;
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    writer.write(CSV_HEADER);
+    writer.write('\n');
+    Iterator<UserExportRow> iterator = rows.iterator();
+    while (iterator.hasNext()) {
+      UserExportRow row = iterator.next();
+      writer.write(String.valueOf(row.id()));
+      writer.write(',');
+      writeCsvField(writer, row.username());
+      writer.write(',');
+      writeCsvField(writer, row.email());
+      writer.write(',');
+      writer.write(row.role().name());
+      writer.write(',');
+      writer.write(String.valueOf(row.enabled()));
+      writer.write(',');
+      writer.write(String.valueOf(row.accountNonLocked()));
+      writer.write(',');
+      writer.write(row.createdAt() == null ? "" : row.createdAt().toString());
+      writer.write(',');
+      writer.write(row.updatedAt() == null ? "" : row.updatedAt().toString());
+      writer.write('\n');
+      count++;
+    }
+    writer.flush();
+    return count;
+  }
+
+  // RFC 4180: 구분자, 따옴표, 개행이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 쓴다
+  private static void writeCsvField(Writer writer, String value) throws IOException {
+    if (value == null) {
+      return;
+    }
+    boolean quote = false;
+    for (int i = 0; i < value.length() && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+    if (!quote) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
@@ -0,0 +1,357 @@
+package com.example.usertemplate.admin.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.example.usertemplate.admin.dto.UserImportError;
+import com.example.usertemplate.admin.dto.UserImportResult;
+import com.example.usertemplate.auth.dto.RegisterRequest;
+import com.example.usertemplate.auth.security.BoundedPasswordEncoder;
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.user.entity.User;
+import com.example.usertemplate.user.repository.UserConstraints;
+import com.example.usertemplate.user.repository.UserRepository;
+import com.example.usertemplate.user.service.UserAvailabilityIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+// CSV(username,email,password[,role]) 를 스트리밍으로 읽어 청크 단위로 검증 -> 중복 조회 -> 병렬 해시 -> multi-row
+// INSERT 한다. 청크마다 바로 커밋되므로 중간에 실패해도 앞선 청크는 유지되고, 실패한 행은 결과에 줄 번호와 함께 담긴다
+@Slf4j
+@Component
+public class UserImporter implements DisposableBean {
+
+  private static final int CHUNK_SIZE = 500;
+
+  private final UserRepository userRepository;
+  private final PasswordEncoder hashEncoder;
+  private final Validator validator;
+  private final UserAvailabilityIndex availabilityIndex;
+  private final ExecutorService hashExecutor;
+  private final long maxRows;
+  private final int maxReportedErrors;
+
+  public UserImporter(
+      UserRepository userRepository,
+      PasswordEncoder passwordEncoder,
+      Validator validator,
+      UserAvailabilityIndex availabilityIndex,
+      @Value("${admin.import.hash-threads:0}") int hashThreads,
+      @Value("${admin.import.max-rows:100000}") long maxRows,
+      @Value("${admin.import.max-reported-errors:100}") int maxReportedErrors) {
+    this.userRepository = userRepository;
+    // 로그인용 해시 풀을 거치지 않고 BCrypt 를 직접 호출한다. 대량 해시가 로그인 대기열을 채우지 않도록
+    // 별도 스레드(기본: 코어 수의 절반)에서 실행해 로그인 처리 여유를 남긴다
+    this.hashEncoder =
+        passwordEncoder instanceof BoundedPasswordEncoder bounded
+            ? bounded.getDelegate()
+            : passwordEncoder;
+    this.validator = validator;
+    this.availabilityIndex = availabilityIndex;
+    this.maxRows = maxRows;
+    this.maxReportedErrors = maxReportedErrors;
+    int threads =
+        hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.hashExecutor =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public UserImportResult importCsv(InputStream in) throws IOException {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    String headerLine = reader.readLine();
+    if (headerLine == null) {
+      throw invalidFile("Import file is empty");
+    }
+    Header header = Header.parse(headerLine);
+
+    ImportErrors errors = new ImportErrors(maxReportedErrors);
+    List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+    long lineNumber = 1;
+    long total = 0;
+    long imported = 0;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (line.isBlank()) {
+        continue;
+      }
+      total++;
+      // 요청 안에서 동기로 처리하므로 파일 크기를 제한한다. 앞선 청크는 이미 커밋되어 있다
+      if (total > maxRows) {
+        throw invalidFile(
+            "Import file has more than "
+                + maxRows
+                + " rows (rows before line "
+                + lineNumber
+                + " were processed)");
+      }
+      Row row = parseRow(lineNumber, line, header, errors);
+      if (row != null) {
+        chunk.add(row);
+      }
+      if (chunk.size() == CHUNK_SIZE) {
+        imported += flush(chunk, errors);
+        chunk.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      imported += flush(chunk, errors);
+    }
+
+    log.info("Admin: Imported {} of {} users ({} failed)", imported, total, errors.count());
+    return UserImportResult.of(total, imported, errors.count(), errors.reported());
+  }
+
+  // RegisterRequest 와 같은 검증 규칙을 적용한다
+  private Row parseRow(long lineNumber, String line, Header header, ImportErrors errors) {
+    List<String> fields = splitCsv(line);
+    if (fields == null || fields.size() < header.columns()) {
+      errors.add(new UserImportError(lineNumber, null, null, "INVALID_ROW", "Malformed CSV row"));
+      return null;
+    }
+    String username = fields.get(header.username());
+    String email = fields.get(header.email());
+    String password = fields.get(header.password());
+
+    RegisterRequest request;
+    try {
+      request = new RegisterRequest(username, email, password);
+    } catch (IllegalArgumentException ex) {
+      errors.add(new UserImportError(lineNumber, username, email, "INVALID_ROW", ex.getMessage()));
+      return null;
+    }
+    Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      String message =
+          violations.stream()
+              .map(ConstraintViolation::getMessage)
+              .sorted()
+              .collect(Collectors.joining(", "));
+      errors.add(new UserImportError(lineNumber, username, email, "INVALID_ROW", message));
+      return null;
+    }
+
+    Role role = Role.USER;
+    if (header.role() >= 0 && !fields.get(header.role()).isBlank()) {
+      try {
+        role = Role.valueOf(fields.get(header.role()).trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException ex) {
+        errors.add(new UserImportError(lineNumber, username, email, "INVALID_ROW", "Unknown role"));
+        return null;
+      }
+    }
+    return new Row(lineNumber, username, email, password, role);
+  }
+
+  private long flush(List<Row> chunk, ImportErrors errors) {
+    // 청크 전체의 중복을 쿼리 두 번으로 확인한다
+    List<String> usernames = chunk.stream().map(Row::username).toList();
+    List<String> emails = chunk.stream().map(Row::email).toList();
+    Set<String> takenUsernames = new HashSet<>(userRepository.findExistingUsernames(usernames));
+    Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmails(emails));
+
+    List<Row> accepted = new ArrayList<>(chunk.size());
+    for (Row row : chunk) {
+      // 같은 청크 안의 중복도 함께 걸러낸다
+      if (takenUsernames.contains(row.username())) {
+        errors.add(row.error("DUPLICATE_USERNAME", "Username already exists"));
+      } else if (takenEmails.contains(row.email())) {
+        errors.add(row.error("DUPLICATE_EMAIL", "Email already exists"));
+      } else {
+        takenUsernames.add(row.username());
+        takenEmails.add(row.email());
+        accepted.add(row);
+      }
+    }
+    if (accepted.isEmpty()) {
+      return 0;
+    }
+
+    List<User> users = hashAll(accepted);
+    try {
+      int inserted = userRepository.insertAll(users);
+      users.forEach(user -> availabilityIndex.add(user.getUsername(), user.getEmail()));
+      return inserted;
+    } catch (DataIntegrityViolationException ex) {
+      // 조회 이후 다른 요청이 같은 값을 등록한 경우. 이 청크만 행 단위로 다시 시도한다
+      log.warn("Admin: Bulk insert conflicted, retrying {} rows individually", users.size());
+      return insertIndividually(accepted, users, errors);
+    }
+  }
+
+  private List<User> hashAll(List<Row> rows) {
+    List<Callable<String>> tasks = new ArrayList<>(rows.size());
+    for (Row row : rows) {
+      tasks.add(() -> hashEncoder.encode(row.password()));
+    }
+    List<User> users = new ArrayList<>(rows.size());
+    try {
+      List<Future<String>> hashes = hashExecutor.invokeAll(tasks);
+      for (int i = 0; i < rows.size(); i++) {
+        Row row = rows.get(i);
+        users.add(
+            User.builder()
+                .username(row.username())
+                .email(row.email())
+                .password(hashes.get(i).get())
+                .role(row.role())
+                .build());
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while hashing passwords", ex);
+    } catch (ExecutionException ex) {
+      throw new IllegalStateException("Password hashing failed", ex.getCause());
+    }
+    return users;
+  }
+
+  private long insertIndividually(List<Row> rows, List<User> users, ImportErrors errors) {
+    long inserted = 0;
+    for (int i = 0; i < users.size(); i++) {
+      User user = users.get(i);
+      try {
+        inserted += userRepository.insertAll(List.of(user));
+        availabilityIndex.add(user.getUsername(), user.getEmail());
+      } catch (DataIntegrityViolationException ex) {
+        RuntimeException translated =
+            UserConstraints.translate(
+                ex, userRepository, null, user.getUsername(), user.getEmail());
+        if (!(translated instanceof BusinessException duplicate)) {
+          throw translated;
+        }
+        errors.add(rows.get(i).error(duplicate.getErrorCode(), duplicate.getMessage()));
+      }
+    }
+    return inserted;
+  }
+
+  // 따옴표로 감싼 필드("a,b", "a""b")를 지원한다. 닫히지 않은 따옴표(여러 줄 필드 포함)는 null
+  private static List<String> splitCsv(String line) {
+    List<String> fields = new ArrayList<>(4);
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          field.append(c);
+        } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      return null;
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private static BusinessException invalidFile(String message) {
+    return new BusinessException(ErrorCode.INVALID_IMPORT_FILE, message);
+  }
+
+  @Override
+  public void destroy() {
+    hashExecutor.shutdown();
+  }
+
+  // 실패 건수는 모두 세고, 응답에는 앞에서부터 maxReported 건만 담는다
+  private static final class ImportErrors {
+    private final int maxReported;
+    private final List<UserImportError> reported = new ArrayList<>();
+    private long count;
+
+    ImportErrors(int maxReported) {
+      this.maxReported = maxReported;
+    }
+
+    void add(UserImportError error) {
+      count++;
+      if (reported.size() < maxReported) {
+        reported.add(error);
+      }
+    }
+
+    long count() {
+      return count;
+    }
+
+    List<UserImportError> reported() {
+      return reported;
+    }
+  }
+
+  private record Row(long line, String username, String email, String password, Role role) {
+    UserImportError error(String code, String message) {
+      return new UserImportError(line, username, email, code, message);
+    }
+  }
+
+  // 헤더 순서는 자유롭고 role 컬럼은 선택
+  private record Header(int username, int email, int password, int role, int columns) {
+    static Header parse(String line) {
+      // UTF-8 BOM 이 있으면 제거
+      List<String> names = splitCsv(line.startsWith("\uFEFF") ? line.substring(1) : line);
+      if (names == null) {
+        throw invalidFile("Malformed CSV header");
+      }
+      List<String> normalized =
+          names.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+      int username = normalized.indexOf("username");
+      int email = normalized.indexOf("email");
+      int password = normalized.indexOf("password");
+      if (username < 0 || email < 0 || password < 0) {
+        throw invalidFile("CSV header must contain username, email and password");
+      }
+      int role = normalized.indexOf("role");
+      int columns = Math.max(Math.max(username, email), Math.max(password, role)) + 1;
+      return new Header(username, email, password, role, columns);
+    }
+  }
+}
@@ -1,16 +1,24 @@
 package com.example.usertemplate.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.usertemplate.auth.dto.AvailabilityResponse;
 import com.example.usertemplate.auth.dto.LoginRequest;
 import com.example.usertemplate.auth.dto.LoginResponse;
+import com.example.usertemplate.auth.dto.LogoutRequest;
+import com.example.usertemplate.auth.dto.RefreshRequest;
 import com.example.usertemplate.auth.dto.RegisterRequest;
 import com.example.usertemplate.auth.service.AuthService;
 import com.example.usertemplate.global.common.ApiResponse;
@@ -34,26 +42,51 @@ public class AuthController {
   @PostMapping("/register")
   public ResponseEntity<ApiResponse<UserResponse>> register(
       @Valid @RequestBody RegisterRequest request) {
-    try {
-      UserResponse userResponse = authService.register(request);
-      return ResponseEntity.status(HttpStatus.CREATED)
-          .body(ApiResponse.success("User registered successfully", userResponse));
-    } catch (Exception e) {
-      log.error("Registration failed: ", e);
-      throw e;
-    }
+    UserResponse userResponse = authService.register(request);
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(ApiResponse.success("User registered successfully", userResponse));
   }
 
   @Operation(summary = "Login", description = "User login")
   @PostMapping("/login")
   public ResponseEntity<ApiResponse<LoginResponse>> login(
-      @Valid @RequestBody LoginRequest request) {
-    try {
-      LoginResponse response = authService.login(request);
-      return ResponseEntity.ok(ApiResponse.success("Login successful", response));
-    } catch (Exception e) {
-      log.error("Login failed: ", e);
-      throw e;
-    }
+      @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+    // 프록시 뒤라면 server.forward-headers-strategy 로 실제 클라이언트 주소가 들어온다
+    LoginResponse response = authService.login(request, httpRequest.getRemoteAddr());
+    return ResponseEntity.ok(ApiResponse.success("Login successful", response));
+  }
+
+  @Operation(summary = "Refresh tokens", description = "Exchange a refresh token for a new pair")
+  @PostMapping("/refresh")
+  public ResponseEntity<ApiResponse<LoginResponse>> refresh(
+      @Valid @RequestBody RefreshRequest request) {
+    LoginResponse response = authService.refresh(request);
+    return ResponseEntity.ok(ApiResponse.success("Token refreshed", response));
+  }
+
+  @Operation(
+      summary = "Logout",
+      description = "Revoke the bearer access token and, if given, the refresh token family")
+  @PostMapping("/logout")
+  public ResponseEntity<ApiResponse<Void>> logout(
+      @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+      @RequestBody(required = false) LogoutRequest request) {
+    String accessToken =
+        authorization != null && authorization.startsWith("Bearer ")
+            ? authorization.substring(7)
+            : null;
+    authService.logout(accessToken, request != null ? request.refreshToken() : null);
+    return ResponseEntity.ok(ApiResponse.success("Logout successful", null));
+  }
+
+  @Operation(
+      summary = "Check availability",
+      description = "Check whether a username and/or email is still available")
+  @GetMapping("/availability")
+  public ResponseEntity<ApiResponse<AvailabilityResponse>> checkAvailability(
+      @RequestParam(required = false) String username,
+      @RequestParam(required = false) String email) {
+    AvailabilityResponse response = authService.checkAvailability(username, email);
+    return ResponseEntity.ok(ApiResponse.success("Availability checked", response));
   }
 }
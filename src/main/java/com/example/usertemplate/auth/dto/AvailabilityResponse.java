@@ -0,0 +1,4 @@
+package com.example.usertemplate.auth.dto;
+
+// 요청하지 않은 항목은 null
+public record AvailabilityResponse(Boolean usernameAvailable, Boolean emailAvailable) {}
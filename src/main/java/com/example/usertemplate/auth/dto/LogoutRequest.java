@@ -0,0 +1,4 @@
+package com.example.usertemplate.auth.dto;
+
+// refreshToken 을 함께 보내면 해당 토큰 family 도 폐기한다
+public record LogoutRequest(String refreshToken) {}
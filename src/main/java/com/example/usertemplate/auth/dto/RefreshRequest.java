@@ -0,0 +1,6 @@
+package com.example.usertemplate.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshRequest(
+    @NotBlank(message = "Refresh token is required") String refreshToken) {}
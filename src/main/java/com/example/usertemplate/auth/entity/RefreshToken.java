@@ -0,0 +1,54 @@
+package com.example.usertemplate.auth.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import com.example.usertemplate.global.common.BaseEntity;
+
+import lombok.*;
+
+// 발급된 리프레시 토큰. 토큰 원문 대신 SHA-256 해시만 저장하고 unique 인덱스로 조회한다.
+// 같은 로그인에서 교체(rotation)되어 이어지는 토큰들은 familyId 를 공유한다
+@Entity
+@Table(
+    name = "refresh_tokens",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash"),
+    indexes = {
+      @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+      @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+      @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+    })
+@Getter
+@ToString(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, length = 64)
+  private String tokenHash;
+
+  @Column(nullable = false, length = 36)
+  private String familyId;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  // 발급 당시 사용자의 tokenVersion. 비밀번호 변경 등으로 버전이 오르면 더 이상 교체할 수 없다
+  @Column(nullable = false)
+  private long tokenVersion;
+
+  @Column(nullable = false)
+  private LocalDateTime expiresAt;
+
+  // 교체에 사용된 시각. 사용된 토큰이 다시 들어오면 재사용(탈취)으로 본다
+  private LocalDateTime usedAt;
+
+  @Builder.Default private boolean revoked = false;
+}
@@ -0,0 +1,48 @@
+package com.example.usertemplate.auth.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.usertemplate.auth.entity.RefreshToken;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+  Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+  // 조건부 UPDATE 로 한 요청만 교체에 성공한다. 이미 사용/폐기된 토큰이면 0
+  @Modifying
+  @Transactional
+  @Query(
+      "update RefreshToken t set t.usedAt = :now"
+          + " where t.id = :id and t.usedAt is null and t.revoked = false")
+  int markUsed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Transactional
+  @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId")
+  int revokeFamily(@Param("familyId") String familyId);
+
+  // 만료된 행을 limit 개씩 삭제한다 (긴 트랜잭션과 대량 잠금 방지)
+  @Modifying
+  @Transactional
+  @Query(
+      value =
+          "delete from refresh_tokens where id in"
+              + " (select id from refresh_tokens where expires_at < :now limit :limit)",
+      nativeQuery = true)
+  int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  // 사용자 행을 실제로 지울 때 함께 정리한다
+  @Modifying
+  @Transactional
+  @Query("delete from RefreshToken t where t.userId in :userIds")
+  int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,130 @@
+package com.example.usertemplate.auth.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 인증 경로의 단계별 시간. 필터는 토큰 추출/서명 검증/사용자 로드, 로그인과 회원가입은 비밀번호 해시와
+// 리포지토리 시간으로 나눠 기록해 지연이 암호 연산 때문인지 DB 때문인지 구분한다.
+// 태그 조합이 고정이므로 타이머를 미리 등록해 두고 요청 경로에서는 배열 조회만 한다
+@Component
+public class AuthenticationMetrics {
+
+  public enum FilterOutcome {
+    TOKEN_PRESENT("extract", "present"),
+    TOKEN_MISSING("extract", "missing"),
+    VALID("verify", "valid"),
+    INVALID("verify", "invalid"),
+    EXPIRED("verify", "expired"),
+    AUTHENTICATED("load", "authenticated"),
+    UNKNOWN_USER("load", "unknown_user"),
+    INACTIVE("load", "inactive"),
+    REVOKED("load", "revoked");
+
+    private final String stage;
+    private final String tag;
+
+    FilterOutcome(String stage, String tag) {
+      this.stage = stage;
+      this.tag = tag;
+    }
+  }
+
+  public enum AuthOutcome {
+    LOGIN_SUCCESS("login", "success"),
+    LOGIN_UNKNOWN_USER("login", "unknown_user"),
+    LOGIN_BAD_CREDENTIALS("login", "bad_credentials"),
+    LOGIN_INACTIVE("login", "inactive"),
+    LOGIN_ERROR("login", "error"),
+    REGISTER_SUCCESS("register", "success"),
+    REGISTER_DUPLICATE("register", "duplicate"),
+    REGISTER_ERROR("register", "error");
+
+    private final String operation;
+    private final String tag;
+
+    AuthOutcome(String operation, String tag) {
+      this.operation = operation;
+      this.tag = tag;
+    }
+  }
+
+  private static final int PASSWORD = 0;
+  private static final int REPOSITORY = 1;
+
+  private final Timer[] filterTimers;
+  private final Timer[][] authTimers;
+
+  public AuthenticationMetrics(MeterRegistry meterRegistry) {
+    FilterOutcome[] filterOutcomes = FilterOutcome.values();
+    this.filterTimers = new Timer[filterOutcomes.length];
+    for (FilterOutcome outcome : filterOutcomes) {
+      filterTimers[outcome.ordinal()] =
+          Timer.builder("security.auth.filter")
+              .tag("stage", outcome.stage)
+              .tag("outcome", outcome.tag)
+              .publishPercentiles(0.5, 0.99)
+              .register(meterRegistry);
+    }
+
+    AuthOutcome[] authOutcomes = AuthOutcome.values();
+    this.authTimers = new Timer[authOutcomes.length][2];
+    for (AuthOutcome outcome : authOutcomes) {
+      authTimers[outcome.ordinal()][PASSWORD] = authTimer(meterRegistry, outcome, "password");
+      authTimers[outcome.ordinal()][REPOSITORY] = authTimer(meterRegistry, outcome, "repository");
+    }
+  }
+
+  private static Timer authTimer(MeterRegistry meterRegistry, AuthOutcome outcome, String stage) {
+    return Timer.builder("security.auth.operation")
+        .tag("operation", outcome.operation)
+        .tag("stage", stage)
+        .tag("outcome", outcome.tag)
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+  }
+
+  public void recordFilter(FilterOutcome outcome, long nanos) {
+    filterTimers[outcome.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  public Sample start() {
+    return new Sample();
+  }
+
+  // 요청 하나 동안 해시/리포지토리 시간을 누적했다가 결과가 정해지면 한 번에 기록한다
+  public final class Sample {
+    private long passwordNanos;
+    private long repositoryNanos;
+
+    private Sample() {}
+
+    public <T> T password(Supplier<T> call) {
+      long start = System.nanoTime();
+      try {
+        return call.get();
+      } finally {
+        passwordNanos += System.nanoTime() - start;
+      }
+    }
+
+    public <T> T repository(Supplier<T> call) {
+      long start = System.nanoTime();
+      try {
+        return call.get();
+      } finally {
+        repositoryNanos += System.nanoTime() - start;
+      }
+    }
+
+    public void stop(AuthOutcome outcome) {
+      Timer[] timers = authTimers[outcome.ordinal()];
+      timers[PASSWORD].record(passwordNanos, TimeUnit.NANOSECONDS);
+      timers[REPOSITORY].record(repositoryNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.usertemplate.auth.security;
+
+public enum AuthenticationMode {
+  // principal 을 DB(PrincipalCache)에서 로드
+  DATABASE,
+  // principal 을 액세스 토큰 클레임에서 생성하고 토큰 버전만 확인
+  CLAIMS
+}
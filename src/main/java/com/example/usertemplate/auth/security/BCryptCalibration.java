@@ -0,0 +1,46 @@
+package com.example.usertemplate.auth.security;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 현재 하드웨어에서 BCrypt 해시 시간을 측정해 목표 지연 시간을 넘지 않는 가장 높은 work factor 를 고른다
+@Slf4j
+public final class BCryptCalibration {
+
+  private static final int SAMPLES = 3;
+
+  private BCryptCalibration() {}
+
+  public static int strengthFor(Duration targetLatency, int minStrength, int maxStrength) {
+    // JIT 워밍업
+    BCrypt.hashpw("calibration", BCrypt.gensalt(4));
+
+    long elapsedNanos = Long.MAX_VALUE;
+    for (int i = 0; i < SAMPLES; i++) {
+      long start = System.nanoTime();
+      BCrypt.hashpw("calibration", BCrypt.gensalt(minStrength));
+      elapsedNanos = Math.min(elapsedNanos, System.nanoTime() - start);
+    }
+
+    // work factor 가 1 증가할 때마다 해시 시간은 두 배가 된다
+    int strength = minStrength;
+    long estimatedNanos = elapsedNanos;
+    long targetNanos = targetLatency.toNanos();
+    while (strength < maxStrength && estimatedNanos * 2 <= targetNanos) {
+      strength++;
+      estimatedNanos *= 2;
+    }
+
+    log.info(
+        "BCrypt calibrated: strength={} (~{} ms per hash, target {} ms, measured {} ms at {})",
+        strength,
+        Duration.ofNanos(estimatedNanos).toMillis(),
+        targetLatency.toMillis(),
+        Duration.ofNanos(elapsedNanos).toMillis(),
+        minStrength);
+    return strength;
+  }
+}
@@ -0,0 +1,145 @@
+package com.example.usertemplate.auth.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// BCrypt 해시/검증을 요청 스레드가 아닌 코어 수 크기의 전용 풀에서 실행한다. 대기열이 가득 차면 즉시 503 을
+// 반환해 로그인 폭주가 톰캣 워커 스레드와 CPU 를 모두 점유하지 못하게 한다
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMillis;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejectedCounter;
+
+  public BoundedPasswordEncoder(
+      PasswordEncoder delegate,
+      int threads,
+      int queueCapacity,
+      Duration timeout,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.timeoutMillis = timeout.toMillis();
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+    this.encodeTimer =
+        Timer.builder("security.password.hash")
+            .tag("operation", "encode")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    this.matchesTimer =
+        Timer.builder("security.password.hash")
+            .tag("operation", "matches")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("security.password.rejected").register(meterRegistry);
+    Gauge.builder("security.password.queue.depth", executor, e -> e.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder("security.password.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+    log.info("Password hashing pool started: threads={}, queueCapacity={}", threads, queueCapacity);
+  }
+
+  public PasswordEncoder getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(encodeTimer, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  // 해시 시간(대기열 대기 제외)은 작업 스레드에서 측정한다
+  private <T> T submit(Timer timer, Callable<T> task) {
+    Callable<T> timedTask =
+        () -> {
+          long start = System.nanoTime();
+          try {
+            return task.call();
+          } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+          }
+        };
+
+    Future<T> future;
+    try {
+      future = executor.submit(timedTask);
+    } catch (RejectedExecutionException ex) {
+      rejectedCounter.increment();
+      throw busy();
+    }
+
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      future.cancel(true);
+      rejectedCounter.increment();
+      throw busy();
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while hashing password", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", ex.getCause());
+    }
+  }
+
+  private static BusinessException busy() {
+    return new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,347 @@
+package com.example.usertemplate.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+import com.example.usertemplate.user.entity.Role;
+
+// 이 서비스가 발급한 HMAC 토큰 전용 검증기. 스레드별 Mac 과 버퍼를 재사용하고, base64url 을 직접 디코딩하며
+// 페이로드에서 필요한 필드만 읽는다 (Claims 맵, Date, Jackson 없음). 헤더가 다르거나 이스케이프, 공백, 중첩 값처럼
+// 예상하지 못한 형식이면 null 을 반환해 호출자가 jjwt 로 처리하도록 한다
+class HmacTokenVerifier {
+
+  private static final byte[] SUB = ascii("sub");
+  private static final byte[] EXP = ascii("exp");
+  private static final byte[] NBF = ascii("nbf");
+  private static final byte[] JTI = ascii("jti");
+  private static final byte[] ROLE = ascii(JwtTokenProvider.CLAIM_ROLE);
+  private static final byte[] ENABLED = ascii(JwtTokenProvider.CLAIM_ENABLED);
+  private static final byte[] LOCKED = ascii(JwtTokenProvider.CLAIM_LOCKED);
+  private static final byte[] TOKEN_VERSION = ascii(JwtTokenProvider.CLAIM_TOKEN_VERSION);
+  private static final byte[] TRUE = ascii("true");
+  private static final byte[] FALSE = ascii("false");
+
+  private static final Role[] ROLES = Role.values();
+  private static final byte[][] ROLE_NAMES = new byte[ROLES.length][];
+
+  private static final int[] BASE64URL = new int[128];
+
+  static {
+    for (int i = 0; i < ROLES.length; i++) {
+      ROLE_NAMES[i] = ascii(ROLES[i].name());
+    }
+    Arrays.fill(BASE64URL, -1);
+    String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    for (int i = 0; i < alphabet.length(); i++) {
+      BASE64URL[alphabet.charAt(i)] = i;
+    }
+  }
+
+  private final String expectedHeader;
+  private final ThreadLocal<Buffers> buffers;
+
+  HmacTokenVerifier(SecretKey key, String expectedHeader) {
+    this.expectedHeader = expectedHeader;
+    this.buffers = ThreadLocal.withInitial(() -> new Buffers(newMac(key)));
+  }
+
+  // 서명이 유효하면 만료된 토큰도 반환한다 (만료 여부는 호출자가 확인)
+  VerifiedToken verify(String token) {
+    int headerEnd = expectedHeader.length();
+    if (token.length() <= headerEnd
+        || token.charAt(headerEnd) != '.'
+        || !token.startsWith(expectedHeader)) {
+      return null;
+    }
+    int payloadEnd = token.indexOf('.', headerEnd + 1);
+    if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+      return null;
+    }
+
+    Buffers b = buffers.get();
+
+    // 서명 입력(header.payload)을 ASCII 바이트로 복사해 MAC 계산
+    byte[] input = b.input(payloadEnd);
+    for (int i = 0; i < payloadEnd; i++) {
+      char c = token.charAt(i);
+      if (c >= 0x80) {
+        return null;
+      }
+      input[i] = (byte) c;
+    }
+    try {
+      b.mac.update(input, 0, payloadEnd);
+      b.mac.doFinal(b.expectedSignature, 0);
+    } catch (Exception ex) {
+      b.mac.reset();
+      return null;
+    }
+
+    int signatureLength =
+        decode(token, payloadEnd + 1, token.length(), b.signature, b.signature.length);
+    if (signatureLength != b.signature.length
+        || !MessageDigest.isEqual(b.signature, b.expectedSignature)) {
+      return null;
+    }
+
+    byte[] payload = b.payload(payloadEnd - headerEnd);
+    int payloadLength = decode(token, headerEnd + 1, payloadEnd, payload, payload.length);
+    if (payloadLength < 0) {
+      return null;
+    }
+    return readClaims(payload, payloadLength);
+  }
+
+  // 평평한 JSON 객체에서 필요한 필드만 읽는다. 지원하지 않는 형식이면 null
+  private static VerifiedToken readClaims(byte[] json, int length) {
+    long userId = -1;
+    long expSeconds = -1;
+    long tokenId = 0;
+    Role role = null;
+    int enabled = -1;
+    int locked = -1;
+    long tokenVersion = -1;
+
+    int pos = 0;
+    if (length < 2 || json[pos++] != '{') {
+      return null;
+    }
+    while (pos < length && json[pos] != '}') {
+      if (json[pos] != '"') {
+        return null;
+      }
+      int keyStart = pos + 1;
+      int keyEnd = indexOfQuote(json, keyStart, length);
+      if (keyEnd < 0 || keyEnd + 1 >= length || json[keyEnd + 1] != ':') {
+        return null;
+      }
+      pos = keyEnd + 2;
+      if (pos >= length) {
+        return null;
+      }
+
+      int valueEnd;
+      byte first = json[pos];
+      if (first == '"') {
+        valueEnd = indexOfQuote(json, pos + 1, length);
+        if (valueEnd < 0) {
+          return null;
+        }
+        if (equals(json, keyStart, keyEnd, SUB)) {
+          userId = parseLong(json, pos + 1, valueEnd);
+          if (userId < 0) {
+            return null;
+          }
+        } else if (equals(json, keyStart, keyEnd, JTI)) {
+          // 16자리 hex 만 허용 (다른 형식은 jjwt 경로에서 동일하게 0 이 된다)
+          tokenId = parseHex(json, pos + 1, valueEnd);
+          if (tokenId == 0) {
+            return null;
+          }
+        } else if (equals(json, keyStart, keyEnd, ROLE)) {
+          role = role(json, pos + 1, valueEnd);
+          if (role == null) {
+            return null;
+          }
+        }
+        pos = valueEnd + 1;
+      } else if (first == 't' || first == 'f') {
+        int value = first == 't' ? 1 : 0;
+        byte[] literal = value == 1 ? TRUE : FALSE;
+        valueEnd = pos + literal.length;
+        if (valueEnd > length || !equals(json, pos, valueEnd, literal)) {
+          return null;
+        }
+        if (equals(json, keyStart, keyEnd, ENABLED)) {
+          enabled = value;
+        } else if (equals(json, keyStart, keyEnd, LOCKED)) {
+          locked = value;
+        }
+        pos = valueEnd;
+      } else if (first >= '0' && first <= '9') {
+        valueEnd = pos;
+        while (valueEnd < length && json[valueEnd] >= '0' && json[valueEnd] <= '9') {
+          valueEnd++;
+        }
+        if (equals(json, keyStart, keyEnd, EXP)) {
+          expSeconds = parseLong(json, pos, valueEnd);
+        } else if (equals(json, keyStart, keyEnd, TOKEN_VERSION)) {
+          tokenVersion = parseLong(json, pos, valueEnd);
+        } else if (equals(json, keyStart, keyEnd, NBF)) {
+          return null;
+        }
+        pos = valueEnd;
+      } else {
+        // 음수, 소수, 배열, 객체, null 등은 jjwt 에 맡긴다
+        return null;
+      }
+
+      if (pos < length && json[pos] == ',') {
+        pos++;
+      } else if (pos >= length || json[pos] != '}') {
+        return null;
+      }
+    }
+    if (pos != length - 1 || userId < 0 || expSeconds < 0) {
+      return null;
+    }
+
+    UserPrincipal principal = null;
+    if (role != null && enabled >= 0 && locked >= 0 && tokenVersion >= 0) {
+      principal = new UserPrincipal(userId, role, enabled == 1, locked == 0, tokenVersion);
+    }
+    return new VerifiedToken(userId, tokenId, expSeconds * 1000, principal);
+  }
+
+  // 이스케이프 문자가 있으면 -1
+  private static int indexOfQuote(byte[] json, int from, int length) {
+    for (int i = from; i < length; i++) {
+      if (json[i] == '"') {
+        return i;
+      }
+      if (json[i] == '\\') {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean equals(byte[] json, int start, int end, byte[] expected) {
+    if (end - start != expected.length) {
+      return false;
+    }
+    for (int i = 0; i < expected.length; i++) {
+      if (json[start + i] != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // 0 이상의 10진수만 허용, 그 외는 -1
+  private static long parseLong(byte[] json, int start, int end) {
+    if (start == end || end - start > 18) {
+      return -1;
+    }
+    long value = 0;
+    for (int i = start; i < end; i++) {
+      byte c = json[i];
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  // 16자리 hex 를 long 으로 읽는다. 형식이 다르거나 값이 0 이면 0
+  private static long parseHex(byte[] json, int start, int end) {
+    if (end - start != 16) {
+      return 0;
+    }
+    long value = 0;
+    for (int i = start; i < end; i++) {
+      int c = json[i];
+      int digit;
+      if (c >= '0' && c <= '9') {
+        digit = c - '0';
+      } else if (c >= 'a' && c <= 'f') {
+        digit = c - 'a' + 10;
+      } else if (c >= 'A' && c <= 'F') {
+        digit = c - 'A' + 10;
+      } else {
+        return 0;
+      }
+      value = (value << 4) | digit;
+    }
+    return value;
+  }
+
+  private static Role role(byte[] json, int start, int end) {
+    for (int i = 0; i < ROLES.length; i++) {
+      if (equals(json, start, end, ROLE_NAMES[i])) {
+        return ROLES[i];
+      }
+    }
+    return null;
+  }
+
+  // 패딩 없는 base64url 을 out 에 디코딩하고 길이를 반환한다. 잘못된 입력이면 -1
+  private static int decode(String src, int start, int end, byte[] out, int capacity) {
+    int length = end - start;
+    if (length % 4 == 1) {
+      return -1;
+    }
+    int decodedLength = length / 4 * 3 + Math.max(0, length % 4 - 1);
+    if (decodedLength > capacity) {
+      return -1;
+    }
+    int o = 0;
+    int bits = 0;
+    int bitCount = 0;
+    for (int i = start; i < end; i++) {
+      char c = src.charAt(i);
+      int v = c < 128 ? BASE64URL[c] : -1;
+      if (v < 0) {
+        return -1;
+      }
+      bits = (bits << 6) | v;
+      bitCount += 6;
+      if (bitCount >= 8) {
+        bitCount -= 8;
+        out[o++] = (byte) (bits >> bitCount);
+      }
+    }
+    return o;
+  }
+
+  private static Mac newMac(SecretKey key) {
+    try {
+      Mac mac = Mac.getInstance(key.getAlgorithm());
+      mac.init(key);
+      return mac;
+    } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+      throw new IllegalStateException("HMAC is not available for " + key.getAlgorithm(), e);
+    }
+  }
+
+  private static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  // 스레드별로 재사용하는 Mac 과 작업 버퍼
+  private static final class Buffers {
+    private final Mac mac;
+    private final byte[] expectedSignature;
+    private final byte[] signature;
+    private byte[] input = new byte[512];
+    private byte[] payload = new byte[384];
+
+    private Buffers(Mac mac) {
+      this.mac = mac;
+      this.expectedSignature = new byte[mac.getMacLength()];
+      this.signature = new byte[mac.getMacLength()];
+    }
+
+    private byte[] input(int length) {
+      if (input.length < length) {
+        input = new byte[length];
+      }
+      return input;
+    }
+
+    private byte[] payload(int encodedLength) {
+      int length = encodedLength / 4 * 3 + 3;
+      if (payload.length < length) {
+        payload = new byte[length];
+      }
+      return payload;
+    }
+  }
+}
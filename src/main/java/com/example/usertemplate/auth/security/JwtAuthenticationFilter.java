@@ -7,6 +7,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -14,8 +15,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.example.usertemplate.user.entity.User;
-import com.example.usertemplate.user.repository.UserRepository;
+import com.example.usertemplate.auth.security.AuthenticationMetrics.FilterOutcome;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -26,8 +26,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-  private final JwtTokenProvider tokenProvider;
-  private final UserRepository userRepository;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final PrincipalCache principalCache;
+  private final TokenDenylist tokenDenylist;
+  private final AuthenticationMetrics authenticationMetrics;
+
+  @Value("${jwt.authentication-mode:DATABASE}")
+  private AuthenticationMode authenticationMode;
 
   @Override
   protected void doFilterInternal(
@@ -37,43 +42,83 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       throws ServletException, IOException {
     try {
       // 요청에서 JWT 토큰 추출
+      long start = System.nanoTime();
       String jwt = getJwtFromRequest(request);
+      boolean present = StringUtils.hasText(jwt);
+      long extracted = System.nanoTime();
+      authenticationMetrics.recordFilter(
+          present ? FilterOutcome.TOKEN_PRESENT : FilterOutcome.TOKEN_MISSING, extracted - start);
+
+      log.debug("🔍 JWT Filter - Token extracted: {}", present ? "present" : "null");
+
+      if (present) {
+        // 토큰 검증과 사용자 ID 추출을 한 번의 파싱(또는 캐시 조회)으로 처리
+        VerifiedToken verifiedToken = verifiedTokenCache.lookup(jwt);
+        FilterOutcome verifyOutcome =
+            verifiedToken == null
+                ? FilterOutcome.INVALID
+                : verifiedToken.isExpired(System.currentTimeMillis())
+                    ? FilterOutcome.EXPIRED
+                    : FilterOutcome.VALID;
+        long verified = System.nanoTime();
+        authenticationMetrics.recordFilter(verifyOutcome, verified - extracted);
+
+        // 토큰이 유효한 경우 인증 처리
+        if (verifyOutcome == FilterOutcome.VALID) {
+          log.debug("✅ JWT Filter - Token validation successful");
+          FilterOutcome loadOutcome = authenticate(request, verifiedToken);
+          authenticationMetrics.recordFilter(loadOutcome, System.nanoTime() - verified);
+          log.debug("🔍 JWT Filter - User ID {}: {}", verifiedToken.userId(), loadOutcome);
+        }
+      }
+    } catch (Exception ex) {
+      // 잘못된 토큰은 위에서 INVALID 로 처리되므로 여기까지 오는 것은 예상하지 못한 예외뿐이다
+      log.error("Could not set user authentication in security context", ex);
+    }
 
-      log.debug("🔍 JWT Filter - Token extracted: {}", jwt != null ? "present" : "null");
-
-      // 토큰이 존재하고 유효한 경우 인증 처리
-      if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-        log.debug("✅ JWT Filter - Token validation successful");
-
-        // 토큰에서 사용자 ID 추출
-        Long userId = tokenProvider.getUserIdAsLongFromToken(jwt);
-        log.debug("🔍 JWT Filter - User ID extracted: {}", userId);
-
-        // 사용자 ID로 사용자 상세 정보 로드
-        User user = userRepository.findById(userId).orElse(null);
-        assert user != null;
-        log.debug("✅ JWT Filter - User found: {}", user.getUsername());
-
-        // Spring Security 인증 객체 생성
-        UsernamePasswordAuthenticationToken authentication =
-            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-        // 요청 상세 정보 설정
-        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    filterChain.doFilter(request, response);
+  }
 
-        // SecurityContext에 인증 정보 설정 (강화된 설정)
-        SecurityContextHolder.setContext(SecurityContextHolder.createEmptyContext());
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+  private FilterOutcome authenticate(HttpServletRequest request, VerifiedToken verifiedToken) {
+    // 로그아웃으로 폐기된 토큰 (기본형 해시 조회, 할당 없음)
+    if (tokenDenylist.isRevoked(verifiedToken.tokenId())) {
+      return FilterOutcome.REVOKED;
+    }
 
-        log.debug("🔐 JWT authentication successful for user: {}", user.getUsername());
-        log.debug(
-            "🔐 SecurityContext set: {}",
-            SecurityContextHolder.getContext().getAuthentication().getName());
+    UserPrincipal tokenPrincipal = verifiedToken.principal();
+    UserPrincipal principal;
+    if (authenticationMode == AuthenticationMode.CLAIMS && tokenPrincipal != null) {
+      // CLAIMS 모드: 토큰 클레임으로 principal 을 만들고 토큰 버전만 확인 (DB 조회 없음)
+      if (principalCache.isRevoked(tokenPrincipal)) {
+        return FilterOutcome.REVOKED;
+      }
+      principal = tokenPrincipal;
+    } else {
+      // DATABASE 모드 (또는 클레임이 없는 토큰): 사용자 ID로 principal 로드 (캐시 적중 시 DB 조회 없음)
+      principal = principalCache.get(verifiedToken.userId());
+      if (principal == null) {
+        return FilterOutcome.UNKNOWN_USER;
+      }
+      if (tokenPrincipal != null && tokenPrincipal.tokenVersion() < principal.tokenVersion()) {
+        return FilterOutcome.REVOKED;
       }
-    } catch (Exception ex) {
-      log.error("Could not set user authentication in security context : {}", ex.getMessage());
+    }
+    if (!principal.isEnabled() || !principal.isAccountNonLocked()) {
+      return FilterOutcome.INACTIVE;
     }
 
-    filterChain.doFilter(request, response);
+    // Spring Security 인증 객체 생성
+    UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    // 요청 상세 정보 설정
+    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+    // SecurityContext에 인증 정보 설정 (강화된 설정)
+    SecurityContextHolder.setContext(SecurityContextHolder.createEmptyContext());
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+
+    log.debug("🔐 JWT authentication successful for user: {}", principal.id());
+    return FilterOutcome.AUTHENTICATED;
   }
 
   private String getJwtFromRequest(HttpServletRequest request) {
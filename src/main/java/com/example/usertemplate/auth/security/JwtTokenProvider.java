@@ -1,6 +1,8 @@
 package com.example.usertemplate.auth.security;
 
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
 
 import javax.crypto.SecretKey;
 
@@ -9,6 +11,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.user.entity.User;
+
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -17,27 +22,46 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class JwtTokenProvider {
 
+  // 액세스 토큰에 포함되는 principal 클레임
+  public static final String CLAIM_ROLE = "role";
+  public static final String CLAIM_ENABLED = "enabled";
+  public static final String CLAIM_LOCKED = "locked";
+  public static final String CLAIM_TOKEN_VERSION = "ver";
+
   private final SecretKey key;
+  private final JwtParser parser;
+  private final HmacTokenVerifier fastVerifier;
   private final long jwtExpiration;
-  private final long refreshExpiration;
 
   public JwtTokenProvider(
       @Value("${jwt.secret:mySecretKeyForJwtTokenGenerationAndValidation}") String secretKey,
       @Value("${jwt.expiration:86400000}") long jwtExpiration,
-      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration) {
+      @Value("${jwt.fast-verifier.enabled:true}") boolean fastVerifierEnabled) {
     this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+    // JwtParser 는 불변/스레드 안전하므로 한 번만 생성해 재사용
+    this.parser = Jwts.parser().verifyWith(key).build();
+    // 이 provider 가 실제로 발급하는 헤더와 정확히 같은 토큰만 빠른 경로로 검증한다
+    this.fastVerifier = fastVerifierEnabled ? new HmacTokenVerifier(key, issuedHeader(key)) : null;
     this.jwtExpiration = jwtExpiration;
-    this.refreshExpiration = refreshExpiration;
   }
 
   public String generateAccessToken(Authentication authentication) {
-    UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
+    Object principal = authentication.getPrincipal();
+    if (principal instanceof User user) {
+      return generateAccessToken(UserPrincipal.from(user));
+    }
+    if (principal instanceof UserPrincipal userPrincipal) {
+      return generateAccessToken(userPrincipal);
+    }
+
+    UserDetails userPrincipal = (UserDetails) principal;
     Date expiryDate = new Date(System.currentTimeMillis() + jwtExpiration);
 
     // Extract user ID from UserDetails (assuming it's stored in username field)
     String userId = userPrincipal.getUsername();
 
     return Jwts.builder()
+        .id(newTokenId())
         .subject(userId)
         .issuedAt(new Date())
         .expiration(expiryDate)
@@ -45,31 +69,122 @@ public class JwtTokenProvider {
         .compact();
   }
 
-  public String generateRefreshToken(String userId) {
-    Date expiryDate = new Date(System.currentTimeMillis() + refreshExpiration);
+  // 역할, 계정 상태, 토큰 버전을 클레임으로 포함해 필터가 DB 없이 principal 을 만들 수 있게 한다
+  public String generateAccessToken(UserPrincipal principal) {
+    Date expiryDate = new Date(System.currentTimeMillis() + jwtExpiration);
 
     return Jwts.builder()
-        .subject(userId)
+        .id(newTokenId())
+        .subject(String.valueOf(principal.id()))
+        .claim(CLAIM_ROLE, principal.role().name())
+        .claim(CLAIM_ENABLED, principal.enabled())
+        .claim(CLAIM_LOCKED, !principal.accountNonLocked())
+        .claim(CLAIM_TOKEN_VERSION, principal.tokenVersion())
         .issuedAt(new Date())
         .expiration(expiryDate)
         .signWith(key)
         .compact();
   }
 
+  // 한 번의 파싱으로 서명/만료를 검증하고 필요한 값만 추출한다. 유효하지 않거나 만료되었으면 null
+  public VerifiedToken parseToken(String token) {
+    VerifiedToken verified = parseTokenIncludingExpired(token);
+    return verified == null || verified.isExpired(System.currentTimeMillis()) ? null : verified;
+  }
+
+  // 서명이 유효하면 만료된 토큰도 반환한다 (만료와 위조를 구분해야 하는 호출자용). 유효하지 않으면 null
+  public VerifiedToken parseTokenIncludingExpired(String token) {
+    if (fastVerifier != null) {
+      VerifiedToken verified = fastVerifier.verify(token);
+      if (verified != null) {
+        return verified;
+      }
+    }
+
+    Claims claims;
+    try {
+      claims = parser.parseSignedClaims(token).getPayload();
+    } catch (ExpiredJwtException ex) {
+      // jjwt 는 서명을 먼저 검증한 뒤 만료를 확인하므로 클레임을 그대로 쓸 수 있다
+      log.debug("Expired JWT token: {}", ex.getMessage());
+      claims = ex.getClaims();
+    } catch (JwtException ex) {
+      // 위조/손상된 토큰은 클라이언트 입력 문제이므로 DEBUG (봇 트래픽이 ERROR 로그를 채우지 않도록)
+      log.debug("Invalid JWT token: {}", ex.getMessage());
+      return null;
+    } catch (IllegalArgumentException ex) {
+      log.debug("JWT claims string is empty");
+      return null;
+    }
+
+    try {
+      Long userId = Long.parseLong(claims.getSubject());
+      Date expiration = claims.getExpiration();
+      return new VerifiedToken(
+          userId,
+          tokenId(claims.getId()),
+          expiration != null ? expiration.getTime() : Long.MAX_VALUE,
+          principalFromClaims(userId, claims));
+    } catch (NumberFormatException ex) {
+      log.debug("Invalid user ID in JWT token: {}", ex.getMessage());
+      return null;
+    }
+  }
+
+  // 클레임이 없는 (이전 형식의) 토큰이면 null
+  private UserPrincipal principalFromClaims(Long userId, Claims claims) {
+    String role = claims.get(CLAIM_ROLE, String.class);
+    Boolean enabled = claims.get(CLAIM_ENABLED, Boolean.class);
+    Boolean locked = claims.get(CLAIM_LOCKED, Boolean.class);
+    Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+    if (role == null || enabled == null || locked == null || tokenVersion == null) {
+      return null;
+    }
+    try {
+      return new UserPrincipal(
+          userId, Role.valueOf(role), enabled, !locked, tokenVersion.longValue());
+    } catch (IllegalArgumentException ex) {
+      log.debug("Invalid role in JWT token: {}", role);
+      return null;
+    }
+  }
+
+  // 폐기 목록 키로 쓰는 64비트 jti (16자리 hex)
+  private static String newTokenId() {
+    return HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+  }
+
+  // 이 provider 가 발급하지 않은 형식이거나 jti 가 없으면 0
+  static long tokenId(String id) {
+    if (id == null || id.length() != 16) {
+      return 0;
+    }
+    try {
+      return HexFormat.fromHexDigitsToLong(id);
+    } catch (IllegalArgumentException ex) {
+      return 0;
+    }
+  }
+
+  private static String issuedHeader(SecretKey key) {
+    String sample = Jwts.builder().subject("0").signWith(key).compact();
+    return sample.substring(0, sample.indexOf('.'));
+  }
+
   public boolean validateToken(String token) {
     try {
-      Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+      parser.parseSignedClaims(token);
       return true;
     } catch (JwtException ex) {
-      log.error("Invalid JWT token: {}", ex.getMessage());
+      log.debug("Invalid JWT token: {}", ex.getMessage());
     } catch (IllegalArgumentException ex) {
-      log.error("JWT claims string is empty");
+      log.debug("JWT claims string is empty");
     }
     return false;
   }
 
   public String getUserIdFromToken(String token) {
-    Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    Claims claims = parser.parseSignedClaims(token).getPayload();
     return claims.getSubject(); // User ID
   }
 
@@ -0,0 +1,136 @@
+package com.example.usertemplate.auth.security;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 로그인 실패 횟수를 username 과 클라이언트 IP 별로 세는 lock-free 제한기. 키를 해시해 고정 크기 배열(stripe)에
+// 매핑하므로 메모리는 키 수와 무관하게 일정하다. 슬롯 하나(long)에 마지막 실패 시각(초, 상위 40비트)과 연속 실패
+// 횟수(하위 24비트)를 담아 CAS 로 갱신한다. 허용 횟수를 넘기면 실패할 때마다 대기 시간이 두 배로 늘어나고,
+// 대기 중인 요청은 비밀번호 해시 전에 429 로 거절된다. 해시 충돌로 다른 키와 슬롯을 공유하면 더 엄격해질 뿐이다
+@Slf4j
+@Component
+public class LoginAttemptLimiter {
+
+  private static final int COUNT_BITS = 24;
+  private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+  private final AtomicLongArray usernameStripes;
+  private final AtomicLongArray ipStripes;
+  private final int mask;
+  // 해시 충돌을 노린 키를 만들 수 없도록 프로세스마다 다른 시드를 사용한다
+  private final long seed = ThreadLocalRandom.current().nextLong();
+
+  private final int usernameFreeAttempts;
+  private final int ipFreeAttempts;
+  private final int lockThreshold;
+  private final long baseDelaySeconds;
+  private final long maxDelaySeconds;
+  private final long resetAfterSeconds;
+
+  private final Counter usernameThrottled;
+  private final Counter ipThrottled;
+
+  public LoginAttemptLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${security.login-throttle.stripes:65536}") int stripes,
+      @Value("${security.login-throttle.username-free-attempts:5}") int usernameFreeAttempts,
+      @Value("${security.login-throttle.ip-free-attempts:50}") int ipFreeAttempts,
+      @Value("${security.login-throttle.lock-threshold:20}") int lockThreshold,
+      @Value("${security.login-throttle.base-delay:PT1S}") Duration baseDelay,
+      @Value("${security.login-throttle.max-delay:PT5M}") Duration maxDelay,
+      @Value("${security.login-throttle.reset-after:PT15M}") Duration resetAfter) {
+    int size = Integer.highestOneBit(Math.max(2, stripes - 1)) << 1;
+    this.usernameStripes = new AtomicLongArray(size);
+    this.ipStripes = new AtomicLongArray(size);
+    this.mask = size - 1;
+    this.usernameFreeAttempts = usernameFreeAttempts;
+    this.ipFreeAttempts = ipFreeAttempts;
+    this.lockThreshold = lockThreshold;
+    this.baseDelaySeconds = Math.max(1, baseDelay.toSeconds());
+    this.maxDelaySeconds = maxDelay.toSeconds();
+    this.resetAfterSeconds = resetAfter.toSeconds();
+    this.usernameThrottled =
+        Counter.builder("security.login.throttled").tag("key", "username").register(meterRegistry);
+    this.ipThrottled =
+        Counter.builder("security.login.throttled").tag("key", "ip").register(meterRegistry);
+  }
+
+  // 비밀번호 검증 전에 호출한다. 대기 시간이 남아 있으면 429
+  public void checkAllowed(String username, String clientIp) {
+    long now = nowSeconds();
+    long usernameWait = retryAfter(usernameStripes, username, usernameFreeAttempts, now);
+    long ipWait = retryAfter(ipStripes, clientIp, ipFreeAttempts, now);
+    if (usernameWait > 0 || ipWait > 0) {
+      (usernameWait > 0 ? usernameThrottled : ipThrottled).increment();
+      log.warn("Login throttled for username: {}, ip: {}", username, clientIp);
+      throw new BusinessException(
+          ErrorCode.TOO_MANY_LOGIN_ATTEMPTS,
+          "Too many login attempts, try again in " + Math.max(usernameWait, ipWait) + " seconds");
+    }
+  }
+
+  // 실패를 기록하고, 이번 실패로 계정 잠금 기준에 막 도달했으면 true (한 번만 true 가 된다)
+  public boolean recordFailure(String username, String clientIp) {
+    long now = nowSeconds();
+    increment(ipStripes, clientIp, now);
+    long failures = increment(usernameStripes, username, now);
+    return lockThreshold > 0 && failures == lockThreshold;
+  }
+
+  // 로그인에 성공하면 username 의 실패 횟수만 지운다 (IP 는 NAT 뒤의 다른 사용자일 수 있다)
+  public void recordSuccess(String username) {
+    usernameStripes.set(index(username), 0);
+  }
+
+  private long retryAfter(AtomicLongArray stripes, String key, int freeAttempts, long now) {
+    long slot = stripes.get(index(key));
+    long failures = slot & COUNT_MASK;
+    long lastFailure = slot >>> COUNT_BITS;
+    if (failures < freeAttempts || now - lastFailure >= resetAfterSeconds) {
+      return 0;
+    }
+    long exponent = Math.min(failures - freeAttempts, 30);
+    long delay = Math.min(maxDelaySeconds, baseDelaySeconds << exponent);
+    return Math.max(0, lastFailure + delay - now);
+  }
+
+  private long increment(AtomicLongArray stripes, String key, long now) {
+    int index = index(key);
+    while (true) {
+      long slot = stripes.get(index);
+      long failures = now - (slot >>> COUNT_BITS) >= resetAfterSeconds ? 0 : slot & COUNT_MASK;
+      long next = Math.min(failures + 1, COUNT_MASK);
+      if (stripes.compareAndSet(index, slot, (now << COUNT_BITS) | next)) {
+        return next;
+      }
+    }
+  }
+
+  private int index(String key) {
+    long h = seed;
+    String value = key == null ? "" : key;
+    for (int i = 0; i < value.length(); i++) {
+      h ^= value.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    return (int) h & mask;
+  }
+
+  private static long nowSeconds() {
+    return System.currentTimeMillis() / 1000;
+  }
+}
@@ -0,0 +1,129 @@
+package com.example.usertemplate.auth.security;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.usertemplate.user.dto.UserTokenVersion;
+import com.example.usertemplate.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class PrincipalCache {
+
+  private final UserRepository userRepository;
+  private final long jwtExpiration;
+  private final LoadingCache<Long, UserPrincipal> cache;
+
+  // 사용자별 최소 유효 토큰 버전. 토큰 버전이 바뀐 사용자만 보관하며, 그 이전에 발급된 토큰은
+  // 어차피 액세스 토큰 만료 시간 이후엔 쓸 수 없으므로 같은 시간이 지나면 제거한다
+  private final Cache<Long, Long> tokenVersionFloors;
+
+  public PrincipalCache(
+      UserRepository userRepository,
+      MeterRegistry meterRegistry,
+      @Value("${security.principal-cache.max-size:10000}") long maxSize,
+      @Value("${security.principal-cache.ttl:PT5M}") Duration ttl,
+      @Value("${jwt.expiration:86400000}") long jwtExpiration) {
+    this.userRepository = userRepository;
+    this.jwtExpiration = jwtExpiration;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build(userId -> userRepository.findById(userId).map(UserPrincipal::from).orElse(null));
+    this.tokenVersionFloors =
+        Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(jwtExpiration)).build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "security.principals");
+  }
+
+  // 재시작 전에 토큰 버전이 바뀐 사용자를 복원한다 (최근 액세스 토큰 만료 시간 이내 변경분만)
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadTokenVersionFloors() {
+    LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(jwtExpiration));
+    List<UserTokenVersion> versions = userRepository.findTokenVersionsUpdatedSince(since);
+    versions.forEach(v -> tokenVersionFloors.put(v.id(), v.tokenVersion()));
+    log.info("Loaded {} token version floors", versions.size());
+  }
+
+  // 캐시에 없으면 DB 에서 로드한다. 존재하지 않는 사용자는 null (캐시하지 않음)
+  public UserPrincipal get(Long userId) {
+    return cache.get(userId);
+  }
+
+  // 캐시에 있을 때만 반환한다 (DB 를 조회하지 않음)
+  public UserPrincipal getIfPresent(Long userId) {
+    return cache.getIfPresent(userId);
+  }
+
+  // 토큰 클레임의 버전이 현재 최소 유효 버전보다 낮으면 폐기된 토큰이다
+  public boolean isRevoked(UserPrincipal tokenPrincipal) {
+    Long floor = tokenVersionFloors.getIfPresent(tokenPrincipal.id());
+    return floor != null && tokenPrincipal.tokenVersion() < floor;
+  }
+
+  // 사용자 정보가 바뀌거나 삭제되면 호출한다. 트랜잭션 안이라면 커밋 이후에 한 번 더 제거해
+  // 커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우를 막는다
+  public void evict(Long userId) {
+    cache.invalidate(userId);
+    afterCommit(() -> cache.invalidate(userId));
+    log.debug("Principal cache evicted for user ID: {}", userId);
+  }
+
+  // tokenVersion 이 증가했을 때 호출한다. 커밋 이후 이전 버전으로 발급된 토큰은 모두 거부된다
+  public void revoke(Long userId, long tokenVersion) {
+    afterCommit(() -> tokenVersionFloors.asMap().merge(userId, tokenVersion, Long::max));
+    evict(userId);
+  }
+
+  // 삭제된 사용자처럼 모든 토큰을 거부해야 할 때
+  public void revokeAll(Long userId) {
+    revoke(userId, Long.MAX_VALUE);
+  }
+
+  // 벌크 관리자 작업용. 여러 사용자를 한 번의 invalidateAll 로 제거하고 커밋 이후 작업도 하나만 등록한다
+  public void evict(Collection<Long> userIds) {
+    cache.invalidateAll(userIds);
+    afterCommit(() -> cache.invalidateAll(userIds));
+    log.debug("Principal cache evicted for {} users", userIds.size());
+  }
+
+  // tokenVersions 는 사용자 id -> 새 최소 유효 토큰 버전
+  public void revoke(Map<Long, Long> tokenVersions) {
+    afterCommit(
+        () -> tokenVersions.forEach((id, v) -> tokenVersionFloors.asMap().merge(id, v, Long::max)));
+    evict(tokenVersions.keySet());
+  }
+
+  // 트랜잭션이 없으면 바로 실행한다
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,248 @@
+package com.example.usertemplate.auth.security;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 로그아웃 등으로 폐기된 액세스 토큰의 jti(64비트) 목록. 조회는 필터에서 요청마다 실행되므로 잠금과 할당 없이
+// open addressing long 해시 테이블을 선형 탐색한다. 각 항목은 토큰이 어차피 만료되는 시각에 계층형 타이밍 휠
+// (64초 x 64분 x 64 * 64분)에서 꺼내져 삭제되므로 목록은 아직 유효한 폐기 토큰 수만큼만 커진다.
+// 쓰기(추가, 만료 처리, 리사이즈)는 모두 이 객체의 잠금 안에서 실행된다. 메모리에만 저장되므로 인스턴스별이다
+@Slf4j
+@Component
+public class TokenDenylist {
+
+  private static final long EMPTY = 0;
+  private static final long TOMBSTONE = Long.MIN_VALUE;
+
+  private static final int WHEEL_BITS = 6;
+  private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final int LEVELS = 3;
+
+  // 리사이즈 시 교체되며 읽는 쪽은 교체 전 테이블을 끝까지 읽어도 된다
+  private volatile AtomicLongArray table;
+  private int size;
+  private int tombstones;
+
+  // wheels[level][slot] = (key, expiresAtSeconds) 쌍의 목록
+  private final Slot[][] wheels = new Slot[LEVELS][WHEEL_SIZE];
+  private long currentSecond;
+
+  public TokenDenylist(
+      MeterRegistry meterRegistry,
+      @Value("${jwt.denylist.initial-capacity:1024}") int initialCapacity) {
+    this.table = new AtomicLongArray(tableSize(initialCapacity));
+    for (Slot[] wheel : wheels) {
+      for (int i = 0; i < WHEEL_SIZE; i++) {
+        wheel[i] = new Slot();
+      }
+    }
+    this.currentSecond = nowSeconds();
+    Gauge.builder("security.token.denylist.size", this, denylist -> denylist.size)
+        .register(meterRegistry);
+  }
+
+  // 요청마다 호출된다. tokenId 0 은 jti 가 없는 토큰
+  public boolean isRevoked(long tokenId) {
+    if (tokenId == EMPTY) {
+      return false;
+    }
+    long key = key(tokenId);
+    AtomicLongArray current = table;
+    int mask = current.length() - 1;
+    for (int i = index(key, mask); ; i = (i + 1) & mask) {
+      long entry = current.get(i);
+      if (entry == key) {
+        return true;
+      }
+      if (entry == EMPTY) {
+        return false;
+      }
+    }
+  }
+
+  public synchronized void revoke(long tokenId, long expiresAtMillis) {
+    if (tokenId == EMPTY) {
+      return;
+    }
+    long expiresAtSecond = (expiresAtMillis + 999) / 1000;
+    if (expiresAtSecond <= currentSecond) {
+      return;
+    }
+    long key = key(tokenId);
+    if (!insert(key)) {
+      return;
+    }
+    schedule(key, expiresAtSecond);
+  }
+
+  // 지난 초만큼 휠을 진행시켜 만료된 항목을 제거한다
+  @Scheduled(fixedDelay = 1000)
+  public void advance() {
+    advanceTo(nowSeconds());
+  }
+
+  synchronized void advanceTo(long now) {
+    while (currentSecond < now) {
+      long second = ++currentSecond;
+      if ((second & WHEEL_MASK) == 0) {
+        // 상위 단계 슬롯을 먼저 한 단계 아래로 내린다
+        if ((second & ((1L << (2 * WHEEL_BITS)) - 1)) == 0) {
+          cascade(2, (int) ((second >>> (2 * WHEEL_BITS)) & WHEEL_MASK));
+        }
+        cascade(1, (int) ((second >>> WHEEL_BITS) & WHEEL_MASK));
+      }
+      Slot due = wheels[0][(int) (second & WHEEL_MASK)];
+      for (int i = 0; i < due.length; i++) {
+        remove(due.keys[i]);
+      }
+      due.clear();
+    }
+  }
+
+  private void schedule(long key, long expiresAtSecond) {
+    long delta = expiresAtSecond - currentSecond;
+    if (delta <= 0) {
+      remove(key);
+    } else if (delta < WHEEL_SIZE) {
+      wheels[0][(int) (expiresAtSecond & WHEEL_MASK)].add(key, expiresAtSecond);
+    } else if (delta < 1L << (2 * WHEEL_BITS)) {
+      wheels[1][(int) ((expiresAtSecond >>> WHEEL_BITS) & WHEEL_MASK)].add(key, expiresAtSecond);
+    } else {
+      // 최상위 단계 범위(약 72시간)를 넘으면 마지막 단계에 두고 다시 내릴 때 재배치한다
+      long capped = Math.min(expiresAtSecond, currentSecond + (1L << (3 * WHEEL_BITS)) - 1);
+      wheels[2][(int) ((capped >>> (2 * WHEEL_BITS)) & WHEEL_MASK)].add(key, expiresAtSecond);
+    }
+  }
+
+  private void cascade(int level, int slotIndex) {
+    Slot slot = wheels[level][slotIndex];
+    if (slot.length == 0) {
+      return;
+    }
+    long[] keys = Arrays.copyOf(slot.keys, slot.length);
+    long[] expiries = Arrays.copyOf(slot.expiries, slot.length);
+    slot.clear();
+    for (int i = 0; i < keys.length; i++) {
+      schedule(keys[i], expiries[i]);
+    }
+  }
+
+  // 이미 있으면 false
+  private boolean insert(long key) {
+    if ((size + tombstones + 1) * 2 > table.length()) {
+      resize();
+    }
+    AtomicLongArray current = table;
+    int mask = current.length() - 1;
+    int tombstoneIndex = -1;
+    for (int i = index(key, mask); ; i = (i + 1) & mask) {
+      long entry = current.get(i);
+      if (entry == key) {
+        return false;
+      }
+      if (entry == TOMBSTONE && tombstoneIndex < 0) {
+        tombstoneIndex = i;
+      } else if (entry == EMPTY) {
+        if (tombstoneIndex >= 0) {
+          i = tombstoneIndex;
+          tombstones--;
+        }
+        current.set(i, key);
+        size++;
+        return true;
+      }
+    }
+  }
+
+  // 탐색 경로를 끊지 않도록 TOMBSTONE 으로 표시한다
+  private void remove(long key) {
+    AtomicLongArray current = table;
+    int mask = current.length() - 1;
+    for (int i = index(key, mask); ; i = (i + 1) & mask) {
+      long entry = current.get(i);
+      if (entry == key) {
+        current.set(i, TOMBSTONE);
+        size--;
+        tombstones++;
+        return;
+      }
+      if (entry == EMPTY) {
+        return;
+      }
+    }
+  }
+
+  // 새 테이블을 채운 뒤 한 번에 교체한다. TOMBSTONE 은 옮기지 않는다
+  private void resize() {
+    AtomicLongArray previous = table;
+    AtomicLongArray next = new AtomicLongArray(tableSize(Math.max(16, size * 2)));
+    int mask = next.length() - 1;
+    for (int i = 0; i < previous.length(); i++) {
+      long entry = previous.get(i);
+      if (entry != EMPTY && entry != TOMBSTONE) {
+        int j = index(entry, mask);
+        while (next.get(j) != EMPTY) {
+          j = (j + 1) & mask;
+        }
+        next.set(j, entry);
+      }
+    }
+    table = next;
+    tombstones = 0;
+    log.debug("Token denylist resized to {} slots ({} entries)", next.length(), size);
+  }
+
+  // 예약 값과 겹치는 jti 는 다른 값으로 옮긴다 (2^-63 확률로 다른 토큰과 겹칠 뿐이다)
+  private static long key(long tokenId) {
+    return tokenId == TOMBSTONE ? TOMBSTONE + 1 : tokenId;
+  }
+
+  private static int index(long key, int mask) {
+    long h = key * 0x9e3779b97f4a7c15L;
+    return (int) (h ^ (h >>> 32)) & mask;
+  }
+
+  // 적재율 50% 이하를 유지하는 2의 거듭제곱 크기
+  private static int tableSize(int capacity) {
+    return Integer.highestOneBit(Math.max(16, capacity * 2) - 1) << 1;
+  }
+
+  private static long nowSeconds() {
+    return System.currentTimeMillis() / 1000;
+  }
+
+  // 타이밍 휠 슬롯. 키와 만료 시각을 기본형 배열에 쌍으로 보관한다
+  private static final class Slot {
+    private long[] keys = new long[0];
+    private long[] expiries = new long[0];
+    private int length;
+
+    private void add(long key, long expiresAtSecond) {
+      if (length == keys.length) {
+        int capacity = Math.max(4, length * 2);
+        keys = Arrays.copyOf(keys, capacity);
+        expiries = Arrays.copyOf(expiries, capacity);
+      }
+      keys[length] = key;
+      expiries[length] = expiresAtSecond;
+      length++;
+    }
+
+    private void clear() {
+      length = 0;
+      if (keys.length > 64) {
+        keys = new long[0];
+        expiries = new long[0];
+      }
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.usertemplate.auth.security;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.user.entity.User;
+
+// 인증된 요청의 principal. JPA 엔티티(비밀번호 해시 포함) 대신 인증에 필요한 값만 보관하는 불변 객체.
+// version 은 ETag 계산용으로 DB 에서 로드한 경우에만 있다 (토큰 클레임으로 만든 경우 null)
+public record UserPrincipal(
+    Long id,
+    Role role,
+    boolean enabled,
+    boolean accountNonLocked,
+    long tokenVersion,
+    Long version)
+    implements UserDetails {
+
+  public UserPrincipal(
+      Long id, Role role, boolean enabled, boolean accountNonLocked, long tokenVersion) {
+    this(id, role, enabled, accountNonLocked, tokenVersion, null);
+  }
+
+  public static UserPrincipal from(User user) {
+    return new UserPrincipal(
+        user.getId(),
+        user.getRole(),
+        user.isEnabled(),
+        user.isAccountNonLocked(),
+        user.getTokenVersion(),
+        user.getVersion());
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return role.getAuthorities();
+  }
+
+  @Override
+  public String getPassword() {
+    return null;
+  }
+
+  // 컨트롤러와 JwtTokenProvider 는 principal 의 username 을 사용자 ID 로 사용한다
+  @Override
+  public String getUsername() {
+    return String.valueOf(id);
+  }
+
+  @Override
+  public boolean isAccountNonLocked() {
+    return accountNonLocked;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+}
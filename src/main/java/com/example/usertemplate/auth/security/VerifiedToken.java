@@ -0,0 +1,11 @@
+package com.example.usertemplate.auth.security;
+
+// 서명 검증이 끝난 토큰에서 인증에 필요한 값만 담은 불변 객체 (Claims 맵 대신 캐시에 저장)
+// principal 은 토큰에 principal 클레임이 있는 경우에만 채워진다. tokenId 는 jti (없으면 0)
+public record VerifiedToken(
+    Long userId, long tokenId, long expiresAtMillis, UserPrincipal principal) {
+
+  public boolean isExpired(long nowMillis) {
+    return nowMillis >= expiresAtMillis;
+  }
+}
@@ -0,0 +1,114 @@
+package com.example.usertemplate.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class VerifiedTokenCache {
+
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(VerifiedTokenCache::newSha256);
+
+  private final JwtTokenProvider tokenProvider;
+  private final boolean enabled;
+  private final long maxTtlMillis;
+  private final Cache<TokenDigest, VerifiedToken> cache;
+
+  public VerifiedTokenCache(
+      JwtTokenProvider tokenProvider,
+      MeterRegistry meterRegistry,
+      @Value("${jwt.cache.enabled:true}") boolean enabled,
+      @Value("${jwt.cache.max-size:10000}") long maxSize,
+      @Value("${jwt.cache.max-ttl:PT1H}") Duration maxTtl) {
+    this.tokenProvider = tokenProvider;
+    this.enabled = enabled;
+    this.maxTtlMillis = maxTtl.toMillis();
+    // 엔트리 하나가 다이제스트(16B) + VerifiedToken + 노드 오버헤드로 약 200B 이므로
+    // max-size 로 캐시 전체 메모리 상한을 정한다 (기본 10,000개 ≈ 2MB)
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new TokenExpiry())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+  }
+
+  // 검증된 토큰을 반환하고, 유효하지 않거나 만료된 토큰이면 null 을 반환한다
+  public VerifiedToken verify(String token) {
+    VerifiedToken verified = lookup(token);
+    if (verified != null && verified.isExpired(System.currentTimeMillis())) {
+      return null;
+    }
+    return verified;
+  }
+
+  // 서명이 유효하면 만료된 토큰도 반환한다 (만료 여부는 호출자가 확인). 실패 결과는 캐시하지 않고,
+  // 만료된 토큰은 보관 기간이 0 이라 캐시에 남지 않는다
+  public VerifiedToken lookup(String token) {
+    if (!enabled) {
+      return tokenProvider.parseTokenIncludingExpired(token);
+    }
+    return cache.get(digest(token), key -> tokenProvider.parseTokenIncludingExpired(token));
+  }
+
+  private static TokenDigest digest(String token) {
+    MessageDigest sha256 = SHA_256.get();
+    byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+    // SHA-256 의 앞 128비트만 키로 사용 (토큰 원문은 캐시에 남기지 않음)
+    long high = 0;
+    long low = 0;
+    for (int i = 0; i < 8; i++) {
+      high = (high << 8) | (hash[i] & 0xFF);
+      low = (low << 8) | (hash[i + 8] & 0xFF);
+    }
+    return new TokenDigest(high, low);
+  }
+
+  private static MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private record TokenDigest(long high, long low) {}
+
+  // 토큰 만료 시각까지만 보관하고, max-ttl 보다 오래 머무르지 않도록 한다
+  private class TokenExpiry implements Expiry<TokenDigest, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+      // exp 가 없는 토큰(Long.MAX_VALUE)도 나노초 변환 전에 max-ttl 로 줄여 오버플로하지 않게 한다
+      long remainingMillis =
+          Math.min(value.expiresAtMillis() - System.currentTimeMillis(), maxTtlMillis);
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(
+        TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
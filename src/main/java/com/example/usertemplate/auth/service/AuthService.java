@@ -1,7 +1,9 @@
 package com.example.usertemplate.auth.service;
 
+import com.example.usertemplate.auth.dto.AvailabilityResponse;
 import com.example.usertemplate.auth.dto.LoginRequest;
 import com.example.usertemplate.auth.dto.LoginResponse;
+import com.example.usertemplate.auth.dto.RefreshRequest;
 import com.example.usertemplate.auth.dto.RegisterRequest;
 import com.example.usertemplate.user.dto.UserResponse;
 
@@ -9,5 +11,11 @@ public interface AuthService {
 
   UserResponse register(RegisterRequest request);
 
-  LoginResponse login(LoginRequest request);
+  LoginResponse login(LoginRequest request, String clientIp);
+
+  LoginResponse refresh(RefreshRequest request);
+
+  void logout(String accessToken, String refreshToken);
+
+  AvailabilityResponse checkAvailability(String username, String email);
 }
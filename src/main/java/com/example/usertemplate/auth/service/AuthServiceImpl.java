@@ -1,22 +1,31 @@
 package com.example.usertemplate.auth.service;
 
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.example.usertemplate.auth.dto.AvailabilityResponse;
 import com.example.usertemplate.auth.dto.LoginRequest;
 import com.example.usertemplate.auth.dto.LoginResponse;
+import com.example.usertemplate.auth.dto.RefreshRequest;
 import com.example.usertemplate.auth.dto.RegisterRequest;
+import com.example.usertemplate.auth.security.AuthenticationMetrics;
+import com.example.usertemplate.auth.security.AuthenticationMetrics.AuthOutcome;
 import com.example.usertemplate.auth.security.JwtTokenProvider;
+import com.example.usertemplate.auth.security.LoginAttemptLimiter;
+import com.example.usertemplate.auth.security.PrincipalCache;
+import com.example.usertemplate.auth.security.TokenDenylist;
+import com.example.usertemplate.auth.security.UserPrincipal;
+import com.example.usertemplate.auth.security.VerifiedToken;
+import com.example.usertemplate.auth.security.VerifiedTokenCache;
 import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
 import com.example.usertemplate.user.dto.UserResponse;
 import com.example.usertemplate.user.entity.Role;
 import com.example.usertemplate.user.entity.User;
+import com.example.usertemplate.user.repository.UserConstraints;
 import com.example.usertemplate.user.repository.UserRepository;
+import com.example.usertemplate.user.service.UserAvailabilityIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,66 +37,186 @@ public class AuthServiceImpl implements AuthService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
-  private final AuthenticationManager authenticationManager;
   private final JwtTokenProvider jwtTokenProvider;
-
+  private final UserAvailabilityIndex availabilityIndex;
+  private final LoginAttemptLimiter loginAttemptLimiter;
+  private final PrincipalCache principalCache;
+  private final RefreshTokenStore refreshTokenStore;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final TokenDenylist tokenDenylist;
+  private final AuthenticationMetrics authenticationMetrics;
+
+  private volatile String userNotFoundPassword;
+
+  // 중복 여부를 미리 조회하지 않고 INSERT 한 번으로 처리한다 (unique 제약 조건 위반을 변환).
+  // 해시 중에는 DB 커넥션을 잡고 있지 않도록 트랜잭션은 save 호출에만 걸린다
   @Override
-  @Transactional
   public UserResponse register(RegisterRequest request) {
     log.info("Registering new user with username: {}", request.username());
 
-    // Check if user already exists
-    if (userRepository.existsByUsername(request.username())) {
-      throw new BusinessException("Username already exists", 409, "DUPLICATE_USERNAME");
+    AuthenticationMetrics.Sample sample = authenticationMetrics.start();
+    AuthOutcome outcome = AuthOutcome.REGISTER_ERROR;
+    try {
+      // Create new user
+      User user =
+          User.builder()
+              .username(request.username())
+              .email(request.email())
+              .password(sample.password(() -> passwordEncoder.encode(request.password())))
+              .role(Role.USER)
+              .enabled(true)
+              .accountNonExpired(true)
+              .accountNonLocked(true)
+              .credentialsNonExpired(true)
+              .build();
+
+      User savedUser;
+      try {
+        savedUser = sample.repository(() -> userRepository.save(user));
+      } catch (DataIntegrityViolationException ex) {
+        RuntimeException translated =
+            UserConstraints.translate(
+                ex, userRepository, null, request.username(), request.email());
+        if (translated instanceof BusinessException) {
+          outcome = AuthOutcome.REGISTER_DUPLICATE;
+        }
+        throw translated;
+      }
+      availabilityIndex.add(savedUser.getUsername(), savedUser.getEmail());
+      log.info("User registered successfully with ID: {}", savedUser.getId());
+
+      outcome = AuthOutcome.REGISTER_SUCCESS;
+      return UserResponse.from(savedUser);
+    } finally {
+      sample.stop(outcome);
     }
+  }
 
-    if (userRepository.existsByEmail(request.email())) {
-      throw new BusinessException("Email already exists", 409, "DUPLICATE_EMAIL");
+  // 인덱스에 없으면 DB 조회 없이 사용 가능으로 답한다
+  @Override
+  public AvailabilityResponse checkAvailability(String username, String email) {
+    if (username == null && email == null) {
+      throw new BusinessException(ErrorCode.INVALID_ARGUMENT, "username or email is required");
     }
-
-    // Create new user
-    User user =
-        User.builder()
-            .username(request.username())
-            .email(request.email())
-            .password(passwordEncoder.encode(request.password()))
-            .role(Role.USER)
-            .enabled(true)
-            .accountNonExpired(true)
-            .accountNonLocked(true)
-            .credentialsNonExpired(true)
-            .build();
-
-    User savedUser = userRepository.save(user);
-    log.info("User registered successfully with ID: {}", savedUser.getId());
-
-    return UserResponse.from(savedUser);
+    Boolean usernameAvailable =
+        username == null
+            ? null
+            : !availabilityIndex.mightContainUsername(username)
+                || !userRepository.existsByUsername(username);
+    Boolean emailAvailable =
+        email == null
+            ? null
+            : !availabilityIndex.mightContainEmail(email) || !userRepository.existsByEmail(email);
+    return new AvailabilityResponse(usernameAvailable, emailAvailable);
   }
 
   @Override
-  public LoginResponse login(LoginRequest request) {
+  public LoginResponse login(LoginRequest request, String clientIp) {
     log.info("Attempting login for username: {}", request.username());
 
-    try {
-      // Authenticate user
-      Authentication authentication =
-          authenticationManager.authenticate(
-              new UsernamePasswordAuthenticationToken(request.username(), request.password()));
+    // 제한 중이면 해시 비용을 쓰기 전에 거절한다
+    loginAttemptLimiter.checkAllowed(request.username(), clientIp);
 
-      // Get user ID from authentication
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      String userId = userDetails.getUsername(); // Assuming username contains user ID
+    // 비밀번호 검증은 BoundedPasswordEncoder 의 전용 풀에서 실행된다 (풀이 가득 차면 503)
+    AuthenticationMetrics.Sample sample = authenticationMetrics.start();
+    AuthOutcome outcome = AuthOutcome.LOGIN_ERROR;
+    try {
+      User user =
+          sample.repository(() -> userRepository.findByUsername(request.username())).orElse(null);
+      if (user == null) {
+        // 존재하지 않는 사용자도 같은 비용을 들여 사용자 존재 여부가 응답 시간으로 드러나지 않게 한다
+        sample.password(() -> passwordEncoder.matches(request.password(), userNotFoundPassword()));
+        loginAttemptLimiter.recordFailure(request.username(), clientIp);
+        outcome = AuthOutcome.LOGIN_UNKNOWN_USER;
+        throw loginFailed(request.username());
+      }
+      if (!sample.password(() -> passwordEncoder.matches(request.password(), user.getPassword()))) {
+        if (loginAttemptLimiter.recordFailure(request.username(), clientIp)) {
+          lockAccount(user, sample);
+        }
+        outcome = AuthOutcome.LOGIN_BAD_CREDENTIALS;
+        throw loginFailed(request.username());
+      }
+      loginAttemptLimiter.recordSuccess(request.username());
+      if (!user.isEnabled() || !user.isAccountNonLocked()) {
+        log.warn("Login rejected for inactive user ID: {}", user.getId());
+        outcome = AuthOutcome.LOGIN_INACTIVE;
+        throw new BusinessException(ErrorCode.ACCOUNT_INACTIVE);
+      }
+      rehashIfOutdated(user, request.password(), sample);
 
       // Generate tokens with user ID
-      String accessToken = jwtTokenProvider.generateAccessToken(authentication);
-      String refreshToken = jwtTokenProvider.generateRefreshToken(userId);
+      UserPrincipal principal = UserPrincipal.from(user);
+      String accessToken = jwtTokenProvider.generateAccessToken(principal);
+      String refreshToken = sample.repository(() -> refreshTokenStore.issue(principal));
 
-      log.info("Login successful for user ID: {}", userId);
+      log.info("Login successful for user ID: {}", user.getId());
 
+      outcome = AuthOutcome.LOGIN_SUCCESS;
       return LoginResponse.of(accessToken, refreshToken);
-    } catch (Exception ex) {
-      log.error("Login failed for username: {}", request.username(), ex);
-      throw new BusinessException("Invalid username or password", 401, "AUTHENTICATION_FAILED");
+    } finally {
+      sample.stop(outcome);
+    }
+  }
+
+  // 비밀번호 해시 없이 리프레시 토큰 조회와 교체만으로 새 토큰 쌍을 발급한다
+  @Override
+  public LoginResponse refresh(RefreshRequest request) {
+    RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(request.refreshToken());
+    String accessToken = jwtTokenProvider.generateAccessToken(rotation.principal());
+    log.debug("Tokens refreshed for user ID: {}", rotation.principal().id());
+    return LoginResponse.of(accessToken, rotation.refreshToken());
+  }
+
+  // 액세스 토큰은 만료될 때까지 폐기 목록에 두고, 리프레시 토큰은 family 를 폐기한다.
+  // 이미 유효하지 않은 토큰은 무시한다
+  @Override
+  public void logout(String accessToken, String refreshToken) {
+    VerifiedToken verified = accessToken == null ? null : verifiedTokenCache.verify(accessToken);
+    if (verified != null) {
+      tokenDenylist.revoke(verified.tokenId(), verified.expiresAtMillis());
+      log.info("Access token revoked for user ID: {}", verified.userId());
     }
+    if (refreshToken != null && !refreshToken.isBlank()) {
+      refreshTokenStore.revoke(refreshToken);
+    }
+  }
+
+  // 연속 실패가 잠금 기준에 도달하면 계정을 잠그고 발급된 토큰도 무효화한다. 관리자가 잠금을 해제해야 한다
+  private void lockAccount(User user, AuthenticationMetrics.Sample sample) {
+    if (sample.repository(() -> userRepository.lockAccount(user.getId())) > 0) {
+      principalCache.revoke(user.getId(), user.getTokenVersion() + 1);
+      log.warn("Account locked after repeated login failures, user ID: {}", user.getId());
+    }
+  }
+
+  // 저장된 해시의 알고리즘/work factor 가 현재 설정보다 낮으면 로그인 성공 시 다시 해시한다
+  private void rehashIfOutdated(
+      User user, String rawPassword, AuthenticationMetrics.Sample sample) {
+    if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+      return;
+    }
+    try {
+      String encoded = sample.password(() -> passwordEncoder.encode(rawPassword));
+      sample.repository(() -> userRepository.updatePassword(user.getId(), encoded));
+      log.info("Password hash upgraded for user ID: {}", user.getId());
+    } catch (BusinessException ex) {
+      // 해시 풀이 바쁘면 다음 로그인에서 다시 시도한다
+      log.debug("Skipped password rehash for user ID: {}", user.getId());
+    }
+  }
+
+  private String userNotFoundPassword() {
+    String encoded = userNotFoundPassword;
+    if (encoded == null) {
+      encoded = passwordEncoder.encode("userNotFoundPassword");
+      userNotFoundPassword = encoded;
+    }
+    return encoded;
+  }
+
+  private BusinessException loginFailed(String username) {
+    log.warn("Login failed for username: {}", username);
+    return new BusinessException(ErrorCode.AUTHENTICATION_FAILED);
   }
 }
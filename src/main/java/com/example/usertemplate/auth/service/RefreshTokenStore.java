@@ -0,0 +1,143 @@
+package com.example.usertemplate.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.usertemplate.auth.entity.RefreshToken;
+import com.example.usertemplate.auth.repository.RefreshTokenRepository;
+import com.example.usertemplate.auth.security.PrincipalCache;
+import com.example.usertemplate.auth.security.UserPrincipal;
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 불투명(랜덤 256비트) 리프레시 토큰의 발급, 교체(rotation), 재사용 감지. 교체 시마다 새 토큰을 발급하고
+// 이전 토큰은 사용 처리한다. 사용된 토큰이 다시 제출되면 탈취된 것으로 보고 같은 family 를 모두 폐기한다
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final ThreadLocal<MessageDigest> SHA_256 =
+      ThreadLocal.withInitial(RefreshTokenStore::sha256);
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final PrincipalCache principalCache;
+  private final Duration refreshExpiration;
+  private final int purgeBatchSize;
+
+  public RefreshTokenStore(
+      RefreshTokenRepository refreshTokenRepository,
+      PrincipalCache principalCache,
+      @Value("${jwt.refresh-expiration:604800000}") long refreshExpiration,
+      @Value("${jwt.refresh-token.purge-batch-size:1000}") int purgeBatchSize) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.principalCache = principalCache;
+    this.refreshExpiration = Duration.ofMillis(refreshExpiration);
+    this.purgeBatchSize = purgeBatchSize;
+  }
+
+  public record Rotation(UserPrincipal principal, String refreshToken) {}
+
+  // 로그인 시 새 family 를 시작한다
+  public String issue(UserPrincipal principal) {
+    return issue(principal, UUID.randomUUID().toString());
+  }
+
+  public Rotation rotate(String refreshToken) {
+    RefreshToken stored =
+        refreshTokenRepository.findByTokenHash(hash(refreshToken)).orElseThrow(this::invalid);
+    LocalDateTime now = LocalDateTime.now();
+    if (stored.isRevoked()) {
+      throw invalid();
+    }
+    if (!stored.getExpiresAt().isAfter(now)) {
+      throw new BusinessException(ErrorCode.REFRESH_TOKEN_EXPIRED);
+    }
+    if (stored.getUsedAt() != null || refreshTokenRepository.markUsed(stored.getId(), now) == 0) {
+      refreshTokenRepository.revokeFamily(stored.getFamilyId());
+      log.warn(
+          "Refresh token reuse detected, revoked family {} of user ID: {}",
+          stored.getFamilyId(),
+          stored.getUserId());
+      throw new BusinessException(ErrorCode.REFRESH_TOKEN_REUSED);
+    }
+
+    // 비밀번호 변경, 잠금, 삭제 이후에는 교체하지 않는다
+    UserPrincipal principal = principalCache.get(stored.getUserId());
+    if (principal == null
+        || !principal.isEnabled()
+        || !principal.isAccountNonLocked()
+        || principal.tokenVersion() > stored.getTokenVersion()) {
+      refreshTokenRepository.revokeFamily(stored.getFamilyId());
+      throw invalid();
+    }
+    return new Rotation(principal, issue(principal, stored.getFamilyId()));
+  }
+
+  // 로그아웃. 알 수 없는 토큰은 무시한다
+  public void revoke(String refreshToken) {
+    refreshTokenRepository
+        .findByTokenHash(hash(refreshToken))
+        .ifPresent(stored -> refreshTokenRepository.revokeFamily(stored.getFamilyId()));
+  }
+
+  @Scheduled(
+      initialDelayString = "${jwt.refresh-token.purge-interval:PT1H}",
+      fixedDelayString = "${jwt.refresh-token.purge-interval:PT1H}")
+  public void purgeExpired() {
+    LocalDateTime now = LocalDateTime.now();
+    long purged = 0;
+    int deleted;
+    do {
+      deleted = refreshTokenRepository.deleteExpiredBatch(now, purgeBatchSize);
+      purged += deleted;
+    } while (deleted == purgeBatchSize);
+    if (purged > 0) {
+      log.info("Purged {} expired refresh tokens", purged);
+    }
+  }
+
+  private String issue(UserPrincipal principal, String familyId) {
+    byte[] bytes = new byte[32];
+    RANDOM.nextBytes(bytes);
+    String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    refreshTokenRepository.save(
+        RefreshToken.builder()
+            .tokenHash(hash(token))
+            .familyId(familyId)
+            .userId(principal.id())
+            .tokenVersion(principal.tokenVersion())
+            .expiresAt(LocalDateTime.now().plus(refreshExpiration))
+            .build());
+    return token;
+  }
+
+  private BusinessException invalid() {
+    return new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+  }
+
+  private static String hash(String token) {
+    return HexFormat.of().formatHex(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
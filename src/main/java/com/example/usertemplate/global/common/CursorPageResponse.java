@@ -0,0 +1,24 @@
+package com.example.usertemplate.global.common;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+  private List<T> content;
+  private int size;
+  private String nextCursor;
+  private boolean hasNext;
+  // 요청한 경우에만 계산 (COUNT 쿼리 생략)
+  private Long totalElements;
+
+  public static <T> CursorPageResponse<T> of(
+      List<T> content, int size, String nextCursor, Long totalElements) {
+    return new CursorPageResponse<>(content, size, nextCursor, nextCursor != null, totalElements);
+  }
+}
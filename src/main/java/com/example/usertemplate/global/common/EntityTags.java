@@ -0,0 +1,59 @@
+package com.example.usertemplate.global.common;
+
+import org.springframework.http.CacheControl;
+
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+
+// 단건 리소스 응답의 ETag ("id-version"). ApiResponse 의 timestamp 같은 응답 메타데이터는 제외하고
+// data 만 대상으로 한다
+public final class EntityTags {
+
+  // If-Match 가 없거나 * 일 때 (버전을 확인하지 않음)
+  public static final long ANY_VERSION = -1;
+
+  // 클라이언트가 본문을 보관하되 매번 재검증하도록 한다 (스프링 시큐리티 기본값 no-store 대체)
+  public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private EntityTags() {}
+
+  public static String of(Long id, long version) {
+    return "\"" + id + "-" + version + "\"";
+  }
+
+  // If-None-Match 는 약한 비교를 사용한다 (W/ 접두사 무시, 쉼표로 구분된 목록, *)
+  public static boolean matches(String ifNoneMatch, String eTag) {
+    if (ifNoneMatch == null || eTag == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals(eTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // If-Match 는 강한 비교를 사용하므로 약한 ETag 나 다른 리소스의 ETag 는 항상 412 다
+  public static long expectedVersion(String ifMatch, Long id) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return ANY_VERSION;
+    }
+    String prefix = "\"" + id + "-";
+    for (String candidate : ifMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+        try {
+          return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+        } catch (NumberFormatException ignored) {
+          // 이 서버가 발급한 형식이 아니다
+        }
+      }
+    }
+    throw new BusinessException(ErrorCode.VERSION_CONFLICT);
+  }
+}
@@ -0,0 +1,96 @@
+package com.example.usertemplate.global.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import com.example.usertemplate.global.common.ApiResponse;
+import com.example.usertemplate.global.common.CursorPageResponse;
+import com.example.usertemplate.global.common.PageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+// ApiResponse/PageResponse 응답 전용 쓰기 컨버터 (읽기는 하지 않는다).
+// 기본 Jackson 컨버터는 요청마다 제네릭 타입으로 JavaType 과 ObjectWriter 를 다시 만들고 루트 직렬화기를 찾는다.
+// 여기서는 컨트롤러 반환 타입(ApiResponse<UserResponse> 등)별로 루트 직렬화기까지 준비된 ObjectWriter 를
+// 한 번 만들어 두고, 중간 String/byte[] 없이 서블릿 출력 버퍼에 바로 쓴다
+public class ApiResponseHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+  private final ObjectMapper objectMapper;
+  // 키는 컨트롤러 메서드의 반환 타입이므로 개수가 엔드포인트 수로 제한된다
+  private final ConcurrentHashMap<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+  public ApiResponseHttpMessageConverter(ObjectMapper objectMapper) {
+    super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return ApiResponse.class.isAssignableFrom(clazz)
+        || PageResponse.class.isAssignableFrom(clazz)
+        || CursorPageResponse.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  public boolean canRead(
+      Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    // 응답 커밋은 컨테이너에 맡긴다 (JsonGenerator 가 출력 스트림을 닫지 않도록)
+    OutputStream body = StreamUtils.nonClosing(outputMessage.getBody());
+    writerFor(object, type).writeValue(body, object);
+  }
+
+  ObjectWriter writerFor(Object object, @Nullable Type type) {
+    Type key = rootType(object, type);
+    ObjectWriter writer = writers.get(key);
+    if (writer == null) {
+      writer =
+          writers.computeIfAbsent(key, t -> objectMapper.writerFor(objectMapper.constructType(t)));
+    }
+    return writer;
+  }
+
+  // 선언 타입이 실제 값의 클래스와 같을 때만 제네릭 정보를 쓴다 (Object 등으로 선언된 경우는 런타임 클래스)
+  private static Type rootType(Object object, @Nullable Type type) {
+    Type raw = type instanceof ParameterizedType parameterized ? parameterized.getRawType() : type;
+    return raw == object.getClass() ? type : object.getClass();
+  }
+
+  // canRead 가 false 이므로 호출되지 않는다. 직접 호출되면 읽을 수 없는 요청 본문으로 처리한다
+  @Override
+  public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+    throw notReadable(inputMessage);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+    throw notReadable(inputMessage);
+  }
+
+  private static HttpMessageNotReadableException notReadable(HttpInputMessage inputMessage) {
+    return new HttpMessageNotReadableException(
+        "Request bodies are not read by " + ApiResponseHttpMessageConverter.class.getSimpleName(),
+        inputMessage);
+  }
+}
@@ -0,0 +1,107 @@
+package com.example.usertemplate.global.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 가상 스레드는 수에 제한이 없으므로 커넥션을 빌려 가는 동시 요청 수를 세마포어로 제한한다. 허가를 얻지 못하면
+// 풀 앞에서 기다리다 acquire-timeout 이후 실패하며 (503), 커넥션을 닫을 때 허가를 반납한다
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final int maxConcurrent;
+  private final long acquireTimeoutNanos;
+  private final Counter rejectedCounter;
+
+  public ConcurrencyLimitedDataSource(
+      DataSource target, int maxConcurrent, Duration acquireTimeout, MeterRegistry meterRegistry) {
+    super(target);
+    this.permits = new Semaphore(maxConcurrent, true);
+    this.maxConcurrent = maxConcurrent;
+    this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    this.rejectedCounter = Counter.builder("db.connections.rejected").register(meterRegistry);
+    Gauge.builder("db.connections.waiting", permits, Semaphore::getQueueLength)
+        .register(meterRegistry);
+    Gauge.builder("db.connections.in-use", permits, p -> maxConcurrent - p.availablePermits())
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return releasing(super.getConnection());
+    } catch (SQLException | RuntimeException ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return releasing(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        rejectedCounter.increment();
+        throw new SQLTransientConnectionException(
+            "Database concurrency limit (" + maxConcurrent + ") reached");
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted while waiting for a connection", ex);
+    }
+  }
+
+  // close() 가 여러 번 호출되어도 허가는 한 번만 반납한다
+  private Connection releasing(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    InvocationHandler handler =
+        (proxy, method, args) -> {
+          if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+            try {
+              return invoke(connection, method, args);
+            } finally {
+              permits.release();
+            }
+          }
+          return invoke(connection, method, args);
+        };
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, handler);
+  }
+
+  private static Object invoke(Connection connection, Method method, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(connection, args);
+    } catch (InvocationTargetException ex) {
+      throw ex.getTargetException();
+    }
+  }
+}
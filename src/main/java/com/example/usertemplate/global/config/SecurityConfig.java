@@ -1,5 +1,9 @@
 package com.example.usertemplate.global.config;
 
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,14 +13,18 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.example.usertemplate.auth.security.BCryptCalibration;
+import com.example.usertemplate.auth.security.BoundedPasswordEncoder;
 import com.example.usertemplate.auth.security.JwtAccessDeniedHandler;
 import com.example.usertemplate.auth.security.JwtAuthenticationEntryPoint;
 import com.example.usertemplate.auth.security.JwtAuthenticationFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -28,9 +36,30 @@ public class SecurityConfig {
   private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
   private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+  // BCrypt 작업은 코어 수 크기의 전용 풀에서 실행하고, 풀이 가득 차면 즉시 503 으로 거절한다.
+  // 해시는 {bcrypt} 접두사와 함께 저장되며, 접두사가 없는 기존 해시도 그대로 검증된다
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      MeterRegistry meterRegistry,
+      @Value("${security.password-hashing.threads:0}") int threads,
+      @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${security.password-hashing.timeout:PT5S}") Duration timeout,
+      @Value("${security.password-hashing.bcrypt.strength:0}") int strength,
+      @Value("${security.password-hashing.bcrypt.target-latency:50ms}") Duration targetLatency,
+      @Value("${security.password-hashing.bcrypt.min-strength:10}") int minStrength,
+      @Value("${security.password-hashing.bcrypt.max-strength:16}") int maxStrength) {
+    int bcryptStrength =
+        strength > 0
+            ? strength
+            : BCryptCalibration.strengthFor(targetLatency, minStrength, maxStrength);
+    DelegatingPasswordEncoder delegatingEncoder =
+        new DelegatingPasswordEncoder(
+            "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+    delegatingEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(
+        delegatingEncoder, poolSize, queueCapacity, timeout, meterRegistry);
   }
 
   @Bean
@@ -53,6 +82,9 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/h2-console/**")
                     .permitAll()
+                    // 메트릭은 내부 동작(캐시, 쿼리, 인증 결과 분포)을 드러내므로 관리자만
+                    .requestMatchers("/actuator/metrics/**")
+                    .hasRole("ADMIN")
                     .requestMatchers("/actuator/**")
                     .permitAll()
 
@@ -0,0 +1,46 @@
+package com.example.usertemplate.global.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// virtual 프로파일: 요청(톰캣)과 서비스 계층을 가상 스레드에서 실행한다 (spring.threads.virtual.enabled).
+// BCrypt 는 계속 BoundedPasswordEncoder 의 플랫폼 스레드 풀에서 실행된다
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+  @Bean
+  public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${virtual-threads.db.max-concurrent:10}") int maxConcurrent,
+      @Value("${virtual-threads.db.acquire-timeout:PT2S}") Duration acquireTimeout) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+            && !(bean instanceof ConcurrencyLimitedDataSource)) {
+          return new ConcurrencyLimitedDataSource(
+              dataSource, maxConcurrent, acquireTimeout, meterRegistry.getObject());
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${virtual-threads.pinning.threshold:PT20MS}") Duration threshold) {
+    return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+  }
+}
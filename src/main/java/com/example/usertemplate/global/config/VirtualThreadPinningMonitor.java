@@ -0,0 +1,99 @@
+package com.example.usertemplate.global.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+// JFR jdk.VirtualThreadPinned 이벤트를 구독해 캐리어 스레드 고정(pinning)을 보고한다. synchronized 블록 안에서
+// JDBC 나 잠금 대기를 하면 발생한다 (예: Caffeine 로딩, 드라이버 내부 잠금). 모든 발생은 메트릭으로 세고,
+// 스택은 고정된 위치(애플리케이션 프레임 기준)별로 처음 한 번만 로그에 남긴다
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final String EVENT = "jdk.VirtualThreadPinned";
+  private static final String APPLICATION_PACKAGE = "com.example.usertemplate";
+  private static final int MAX_REPORTED_SITES = 1000;
+  private static final int LOGGED_FRAMES = 12;
+
+  private final Duration threshold;
+  private final Counter pinnedCounter;
+  private final Timer pinnedTimer;
+  private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+  private RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+    this.threshold = threshold;
+    this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned").register(meterRegistry);
+    this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned.duration").register(meterRegistry);
+  }
+
+  @Override
+  public synchronized void start() {
+    stream = new RecordingStream();
+    stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(EVENT, this::report);
+    stream.startAsync();
+    log.info("Virtual thread pinning monitor started (threshold: {} ms)", threshold.toMillis());
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return stream != null;
+  }
+
+  private void report(RecordedEvent event) {
+    pinnedCounter.increment();
+    pinnedTimer.record(event.getDuration());
+    List<RecordedFrame> frames =
+        event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+    String site = site(frames);
+    if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+      log.warn(
+          "Virtual thread pinned for {} ms at {}\n\t{}",
+          event.getDuration().toMillis(),
+          site,
+          frames.stream()
+              .limit(LOGGED_FRAMES)
+              .map(VirtualThreadPinningMonitor::format)
+              .collect(Collectors.joining("\n\t")));
+    }
+  }
+
+  // 첫 번째 애플리케이션 프레임, 없으면 최상위 프레임
+  private static String site(List<RecordedFrame> frames) {
+    return frames.stream()
+        .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+        .findFirst()
+        .or(() -> frames.stream().findFirst())
+        .map(VirtualThreadPinningMonitor::format)
+        .orElse("unknown");
+  }
+
+  private static String format(RecordedFrame frame) {
+    return frame.getMethod().getType().getName()
+        + "."
+        + frame.getMethod().getName()
+        + ":"
+        + frame.getLineNumber();
+  }
+}
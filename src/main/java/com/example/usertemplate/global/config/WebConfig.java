@@ -0,0 +1,23 @@
+package com.example.usertemplate.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+public class WebConfig {
+
+  // HttpMessageConverter 빈은 스프링 부트가 기본 컨버터들보다 앞에 등록한다.
+  // false 로 끄면 기본 Jackson 컨버터를 그대로 사용한다 (부하 테스트 전후 비교용)
+  @Bean
+  @ConditionalOnProperty(
+      name = "web.response.cached-writers",
+      havingValue = "true",
+      matchIfMissing = true)
+  public ApiResponseHttpMessageConverter apiResponseHttpMessageConverter(
+      ObjectMapper objectMapper) {
+    return new ApiResponseHttpMessageConverter(objectMapper);
+  }
+}
@@ -2,26 +2,25 @@ package com.example.usertemplate.global.exception;
 
 import lombok.Getter;
 
+// 예상 가능한 실패(잘못된 입력, 없는 리소스, 중복 등). 원인은 에러 코드로 충분하므로 스택 트레이스를 만들지 않는다
 @Getter
 public class BusinessException extends RuntimeException {
-  private final int statusCode;
-  private final String errorCode;
+  private final ErrorCode code;
 
-  public BusinessException(String message) {
-    super(message);
-    this.statusCode = 400;
-    this.errorCode = "BUSINESS_ERROR";
+  public BusinessException(ErrorCode code) {
+    this(code, code.message());
   }
 
-  public BusinessException(String message, int statusCode) {
-    super(message);
-    this.statusCode = statusCode;
-    this.errorCode = "BUSINESS_ERROR";
+  public BusinessException(ErrorCode code, String message) {
+    super(message, null, false, false);
+    this.code = code;
   }
 
-  public BusinessException(String message, int statusCode, String errorCode) {
-    super(message);
-    this.statusCode = statusCode;
-    this.errorCode = errorCode;
+  public int getStatusCode() {
+    return code.status().value();
+  }
+
+  public String getErrorCode() {
+    return code.name();
   }
 }
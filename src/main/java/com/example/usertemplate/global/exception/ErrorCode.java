@@ -0,0 +1,62 @@
+package com.example.usertemplate.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+// 클라이언트에 반환하는 에러 코드 목록. 응답의 errorCode 는 상수 이름이고 message 는 기본 메시지다
+public enum ErrorCode {
+
+  // 400
+  INVALID_ARGUMENT(HttpStatus.BAD_REQUEST, "Invalid argument"),
+  VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "Validation failed"),
+  BINDING_ERROR(HttpStatus.BAD_REQUEST, "Binding failed"),
+  ILLEGAL_STATE(HttpStatus.BAD_REQUEST, "Illegal state"),
+  INVALID_FORMAT(HttpStatus.BAD_REQUEST, "Unsupported format"),
+  INVALID_SORT_FIELD(HttpStatus.BAD_REQUEST, "Unsupported sort field"),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "Invalid cursor"),
+  INVALID_IMPORT_FILE(HttpStatus.BAD_REQUEST, "Invalid import file"),
+
+  // 401
+  AUTHENTICATION_REQUIRED(HttpStatus.UNAUTHORIZED, "Authentication required"),
+  AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "Invalid username or password"),
+  ACCOUNT_INACTIVE(HttpStatus.UNAUTHORIZED, "Account is disabled or locked"),
+  INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "Invalid refresh token"),
+  REFRESH_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "Refresh token expired"),
+  REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "Refresh token reuse detected"),
+
+  // 403
+  ACCESS_DENIED(HttpStatus.FORBIDDEN, "Access denied"),
+
+  // 404
+  USER_NOT_FOUND(HttpStatus.NOT_FOUND, "User not found"),
+
+  // 409
+  DUPLICATE_USERNAME(HttpStatus.CONFLICT, "Username already exists"),
+  DUPLICATE_EMAIL(HttpStatus.CONFLICT, "Email already exists"),
+
+  // 412
+  VERSION_CONFLICT(HttpStatus.PRECONDITION_FAILED, "Resource was modified by another request"),
+
+  // 429
+  TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts"),
+
+  // 500, 503
+  INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred"),
+  PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy, please try again later"),
+  DATABASE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy, please try again later");
+
+  private final HttpStatus status;
+  private final String message;
+
+  ErrorCode(HttpStatus status, String message) {
+    this.status = status;
+    this.message = message;
+  }
+
+  public HttpStatus status() {
+    return status;
+  }
+
+  public String message() {
+    return message;
+  }
+}
@@ -3,11 +3,11 @@ package com.example.usertemplate.global.exception;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,81 +15,93 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import lombok.extern.slf4j.Slf4j;
 
+// 예상 가능한 실패(4xx)는 DEBUG, 과부하(503)는 WARN 으로 남기고 ERROR 와 스택 트레이스는
+// 처리하지 못한 예외에만 남긴다
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
-    log.error("IllegalArgumentException: ", ex);
-    ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), "INVALID_ARGUMENT");
-    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    log.debug("IllegalArgumentException: {}", ex.getMessage());
+    return respond(ErrorCode.INVALID_ARGUMENT, ex.getMessage());
   }
 
   @ExceptionHandler(BusinessException.class)
   public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
-    log.error("BusinessException: ", ex);
-    ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), ex.getErrorCode());
-    return new ResponseEntity<>(errorResponse, HttpStatus.valueOf(ex.getStatusCode()));
+    if (ex.getCode().status().is5xxServerError()) {
+      log.warn("BusinessException: {} - {}", ex.getErrorCode(), ex.getMessage());
+    } else {
+      log.debug("BusinessException: {} - {}", ex.getErrorCode(), ex.getMessage());
+    }
+    return respond(ex.getCode(), ex.getMessage());
   }
 
   @ExceptionHandler({AuthenticationException.class, BadCredentialsException.class})
   public ResponseEntity<ErrorResponse> handleAuthenticationException(Exception ex) {
-    log.error("AuthenticationException: ", ex);
-    ErrorResponse errorResponse =
-        ErrorResponse.of("Authentication failed", "AUTHENTICATION_FAILED");
-    return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+    log.debug("AuthenticationException: {}", ex.getMessage());
+    return respond(ErrorCode.AUTHENTICATION_FAILED, "Authentication failed");
   }
 
   @ExceptionHandler(IllegalStateException.class)
   public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException ex) {
-    log.error("IllegalStateException: ", ex);
     if (ex.getMessage() != null && ex.getMessage().contains("not authenticated")) {
-      ErrorResponse errorResponse =
-          ErrorResponse.of("Authentication required", "AUTHENTICATION_REQUIRED");
-      return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+      log.debug("IllegalStateException: {}", ex.getMessage());
+      ErrorCode code = ErrorCode.AUTHENTICATION_REQUIRED;
+      return respond(code, code.message());
     }
-    ErrorResponse errorResponse = ErrorResponse.of(ex.getMessage(), "ILLEGAL_STATE");
-    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    log.error("IllegalStateException: ", ex);
+    return respond(ErrorCode.ILLEGAL_STATE, ex.getMessage());
   }
 
   @ExceptionHandler(AccessDeniedException.class)
   public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
-    log.error("AccessDeniedException: ", ex);
-    ErrorResponse errorResponse = ErrorResponse.of("Access denied", "ACCESS_DENIED");
-    return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+    log.debug("AccessDeniedException: {}", ex.getMessage());
+    return respond(ErrorCode.ACCESS_DENIED, ErrorCode.ACCESS_DENIED.message());
   }
 
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponse> handleValidationException(
       MethodArgumentNotValidException ex) {
-    log.error("MethodArgumentNotValidException: ", ex);
+    log.debug("MethodArgumentNotValidException: {}", ex.getMessage());
     List<String> errors =
         ex.getBindingResult().getFieldErrors().stream()
             .map(error -> error.getField() + ": " + error.getDefaultMessage())
             .collect(Collectors.toList());
 
-    ErrorResponse errorResponse = ErrorResponse.of("Validation failed", "VALIDATION_ERROR", errors);
-    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    ErrorCode code = ErrorCode.VALIDATION_ERROR;
+    ErrorResponse errorResponse = ErrorResponse.of(code.message(), code.name(), errors);
+    return new ResponseEntity<>(errorResponse, code.status());
   }
 
   @ExceptionHandler(BindException.class)
   public ResponseEntity<ErrorResponse> handleBindException(BindException ex) {
-    log.error("BindException: ", ex);
+    log.debug("BindException: {}", ex.getMessage());
     List<String> errors =
         ex.getBindingResult().getFieldErrors().stream()
             .map(error -> error.getField() + ": " + error.getDefaultMessage())
             .collect(Collectors.toList());
 
-    ErrorResponse errorResponse = ErrorResponse.of("Binding failed", "BINDING_ERROR", errors);
-    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    ErrorCode code = ErrorCode.BINDING_ERROR;
+    ErrorResponse errorResponse = ErrorResponse.of(code.message(), code.name(), errors);
+    return new ResponseEntity<>(errorResponse, code.status());
+  }
+
+  // 커넥션을 얻지 못한 경우 (virtual 프로파일의 동시 커넥션 제한 포함)
+  @ExceptionHandler(CannotCreateTransactionException.class)
+  public ResponseEntity<ErrorResponse> handleCannotCreateTransactionException(
+      CannotCreateTransactionException ex) {
+    log.warn("CannotCreateTransactionException: {}", ex.getMessage());
+    return respond(ErrorCode.DATABASE_BUSY, ErrorCode.DATABASE_BUSY.message());
   }
 
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
     log.error("Unexpected error: ", ex);
-    ErrorResponse errorResponse =
-        ErrorResponse.of("An unexpected error occurred", "INTERNAL_ERROR");
-    return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    return respond(ErrorCode.INTERNAL_ERROR, ErrorCode.INTERNAL_ERROR.message());
+  }
+
+  private static ResponseEntity<ErrorResponse> respond(ErrorCode code, String message) {
+    return new ResponseEntity<>(ErrorResponse.of(message, code.name()), code.status());
   }
 }
@@ -0,0 +1,76 @@
+package com.example.usertemplate.global.exception;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 내용이 고정된 에러 응답을 시작 시점에 한 번 직렬화해 두고, 요청마다 timestamp 만 끼워 넣어 쓴다.
+// 필드 순서와 날짜 형식은 같은 ObjectMapper 로 만든 것이라 GlobalExceptionHandler 응답과 동일하다
+public final class PreparedErrorResponse {
+
+  private static final LocalDateTime PLACEHOLDER = LocalDateTime.of(2000, 1, 1, 0, 0);
+  private static final byte[] PLACEHOLDER_TEXT =
+      DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(PLACEHOLDER).getBytes(StandardCharsets.UTF_8);
+
+  private final int status;
+  private final byte[] prefix;
+  private final byte[] suffix;
+
+  public PreparedErrorResponse(ObjectMapper objectMapper, ErrorCode code) {
+    this.status = code.status().value();
+    byte[] body = serialize(objectMapper, code);
+    int at = indexOf(body, PLACEHOLDER_TEXT);
+    if (at < 0) {
+      throw new IllegalStateException("Unexpected timestamp format in error response: " + code);
+    }
+    this.prefix = Arrays.copyOfRange(body, 0, at);
+    this.suffix = Arrays.copyOfRange(body, at + PLACEHOLDER_TEXT.length, body.length);
+  }
+
+  public void write(HttpServletResponse response) throws IOException {
+    byte[] timestamp =
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME
+            .format(LocalDateTime.now())
+            .getBytes(StandardCharsets.US_ASCII);
+
+    response.setStatus(status);
+    response.setContentType("application/json;charset=UTF-8");
+    response.setContentLength(prefix.length + timestamp.length + suffix.length);
+    OutputStream out = response.getOutputStream();
+    out.write(prefix);
+    out.write(timestamp);
+    out.write(suffix);
+    out.flush();
+  }
+
+  private static byte[] serialize(ObjectMapper objectMapper, ErrorCode code) {
+    ErrorResponse template =
+        new ErrorResponse("ERROR", code.message(), code.name(), null, PLACEHOLDER);
+    try {
+      return objectMapper.writeValueAsBytes(template);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize error response: " + code, e);
+    }
+  }
+
+  private static int indexOf(byte[] source, byte[] target) {
+    outer:
+    for (int i = 0; i <= source.length - target.length; i++) {
+      for (int j = 0; j < target.length; j++) {
+        if (source[i + j] != target[j]) {
+          continue outer;
+        }
+      }
+      return i;
+    }
+    return -1;
+  }
+}
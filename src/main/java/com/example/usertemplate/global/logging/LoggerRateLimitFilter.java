@@ -0,0 +1,89 @@
+package com.example.usertemplate.global.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+// 로거별 초당 이벤트 수를 제한하는 logback TurboFilter (logback-spring.xml 에서 등록).
+// 한도를 넘은 level 이하 이벤트는 sampleEvery 번에 한 번만 통과시키고, 나머지는 이벤트 객체를 만들기 전에 버린다.
+// WARN 이상(기본값 기준)은 항상 통과한다
+public class LoggerRateLimitFilter extends TurboFilter {
+
+  private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+  private final ConcurrentHashMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+  private final LongAdder suppressed = new LongAdder();
+
+  private int maxEventsPerSecond = 200;
+  private int sampleEvery = 100;
+  private Level level = Level.INFO;
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // isDebugEnabled() 같은 레벨 확인 호출이거나 제한 대상이 아닌 레벨이면 관여하지 않는다
+    if (format == null || level.levelInt > this.level.levelInt) {
+      return FilterReply.NEUTRAL;
+    }
+    // 꺼진 레벨은 세지 않는다 (logger.isEnabledFor 는 TurboFilter 를 다시 호출하므로 직접 비교)
+    if (level.levelInt < logger.getEffectiveLevel().levelInt) {
+      return FilterReply.NEUTRAL;
+    }
+
+    long count = increment(window(logger.getName()), System.currentTimeMillis() / 1000);
+    if (count <= maxEventsPerSecond) {
+      return FilterReply.NEUTRAL;
+    }
+    if (sampleEvery > 0 && (count - maxEventsPerSecond) % sampleEvery == 0) {
+      return FilterReply.NEUTRAL;
+    }
+    suppressed.increment();
+    return FilterReply.DENY;
+  }
+
+  private AtomicLong window(String loggerName) {
+    AtomicLong window = windows.get(loggerName);
+    if (window == null) {
+      window = windows.computeIfAbsent(loggerName, name -> new AtomicLong());
+    }
+    return window;
+  }
+
+  // 상위 32비트는 초, 하위 32비트는 그 초 동안의 이벤트 수. 초가 바뀌면 1 부터 다시 센다
+  private static long increment(AtomicLong window, long second) {
+    while (true) {
+      long state = window.get();
+      long next =
+          (state >>> 32) == second
+              ? (state & COUNT_MASK) == COUNT_MASK ? state : state + 1
+              : (second << 32) | 1;
+      if (window.compareAndSet(state, next)) {
+        return next & COUNT_MASK;
+      }
+    }
+  }
+
+  public long getSuppressedCount() {
+    return suppressed.sum();
+  }
+
+  public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+    this.maxEventsPerSecond = maxEventsPerSecond;
+  }
+
+  // 0 이면 한도를 넘은 이벤트를 모두 버린다
+  public void setSampleEvery(int sampleEvery) {
+    this.sampleEvery = sampleEvery;
+  }
+
+  public void setLevel(String level) {
+    this.level = Level.toLevel(level, Level.INFO);
+  }
+}
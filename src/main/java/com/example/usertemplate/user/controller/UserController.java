@@ -2,14 +2,18 @@ package com.example.usertemplate.user.controller;
 
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import com.example.usertemplate.global.common.ApiResponse;
+import com.example.usertemplate.global.common.EntityTags;
 import com.example.usertemplate.user.dto.UserResponse;
 import com.example.usertemplate.user.dto.UserUpdateRequest;
+import com.example.usertemplate.user.service.UserEntityTags;
 import com.example.usertemplate.user.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,52 +31,66 @@ import lombok.extern.slf4j.Slf4j;
 public class UserController {
 
   private final UserService userService;
+  private final UserEntityTags userEntityTags;
 
   @GetMapping("/me")
   @Operation(
       summary = "Get current user profile",
-      description = "Get the profile of the currently authenticated user")
-  public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(Authentication authentication) {
-    try {
-      if (authentication == null || authentication.getPrincipal() == null) {
-        throw new IllegalStateException("User is not authenticated");
-      }
-
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      Long userId = Long.valueOf(userDetails.getUsername());
-
-      UserResponse userResponse = userService.getUserById(userId);
-      return ResponseEntity.ok(
-          ApiResponse.success("User profile retrieved successfully", userResponse));
-    } catch (Exception ex) {
-      log.error("Failed to get current user profile: ", ex);
-      throw ex;
+      description =
+          "Get the profile of the currently authenticated user."
+              + " Returns 304 when If-None-Match matches the current ETag")
+  public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(
+      Authentication authentication,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    if (authentication == null || authentication.getPrincipal() == null) {
+      throw new IllegalStateException("User is not authenticated");
     }
+
+    UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+    Long userId = Long.valueOf(userDetails.getUsername());
+
+    // principal 캐시로 현재 ETag 를 알 수 있으면 DB 조회 없이 304 를 반환한다
+    String cachedETag = userEntityTags.cached(userId);
+    if (EntityTags.matches(ifNoneMatch, cachedETag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(cachedETag)
+          .cacheControl(EntityTags.REVALIDATE)
+          .build();
+    }
+
+    // 캐시에 없으면 조회 후 ETag 를 붙인다 (일치하면 스프링이 304 로 바꾼다)
+    UserResponse userResponse = userService.getUserById(userId);
+    return ResponseEntity.ok()
+        .eTag(UserEntityTags.of(userResponse))
+        .cacheControl(EntityTags.REVALIDATE)
+        .body(ApiResponse.success("User profile retrieved successfully", userResponse));
   }
 
   @PutMapping("/me")
   @Operation(
       summary = "Update current user profile",
-      description = "Update the profile of the currently authenticated user")
+      description =
+          "Update the profile of the currently authenticated user."
+              + " With If-Match, the update only applies to that ETag's version (412 otherwise)")
   public ResponseEntity<ApiResponse<UserResponse>> updateCurrentUser(
-      @Valid @RequestBody UserUpdateRequest request, Authentication authentication) {
-    try {
-      if (authentication == null || authentication.getPrincipal() == null) {
-        throw new IllegalStateException("User is not authenticated");
-      }
-
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      Long userId = Long.valueOf(userDetails.getUsername());
-
-      log.info("Updating profile for user ID: {}", userId);
-
-      UserResponse userResponse = userService.updateCurrentUser(userId, request);
-      return ResponseEntity.ok(
-          ApiResponse.success("User profile updated successfully", userResponse));
-    } catch (Exception ex) {
-      log.error("Failed to update user profile: ", ex);
-      throw ex;
+      @Valid @RequestBody UserUpdateRequest request,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      Authentication authentication) {
+    if (authentication == null || authentication.getPrincipal() == null) {
+      throw new IllegalStateException("User is not authenticated");
     }
+
+    UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+    Long userId = Long.valueOf(userDetails.getUsername());
+
+    log.debug("Updating profile for user ID: {}", userId);
+
+    // If-Match 가 있으면 그 버전일 때만 변경한다 (다르면 412)
+    long expectedVersion = EntityTags.expectedVersion(ifMatch, userId);
+    UserResponse userResponse = userService.updateCurrentUser(userId, request, expectedVersion);
+    return ResponseEntity.ok()
+        .eTag(UserEntityTags.of(userResponse))
+        .body(ApiResponse.success("User profile updated successfully", userResponse));
   }
 
   @DeleteMapping("/me")
@@ -80,21 +98,16 @@ public class UserController {
       summary = "Delete current user account",
       description = "Delete the account of the currently authenticated user")
   public ResponseEntity<ApiResponse<Void>> deleteCurrentUser(Authentication authentication) {
-    try {
-      if (authentication == null || authentication.getPrincipal() == null) {
-        throw new IllegalStateException("User is not authenticated");
-      }
+    if (authentication == null || authentication.getPrincipal() == null) {
+      throw new IllegalStateException("User is not authenticated");
+    }
 
-      UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-      Long userId = Long.valueOf(userDetails.getUsername());
+    UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+    Long userId = Long.valueOf(userDetails.getUsername());
 
-      log.info("Deleting account for user ID: {}", userId);
+    log.debug("Deleting account for user ID: {}", userId);
 
-      userService.deleteCurrentUser(userId);
-      return ResponseEntity.ok(ApiResponse.success("User account deleted successfully", null));
-    } catch (Exception ex) {
-      log.error("Failed to delete user account: ", ex);
-      throw ex;
-    }
+    userService.deleteCurrentUser(userId);
+    return ResponseEntity.ok(ApiResponse.success("User account deleted successfully", null));
   }
 }
@@ -0,0 +1,17 @@
+package com.example.usertemplate.user.dto;
+
+import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.user.entity.User;
+
+public record UserAccountState(
+    Long id, Role role, boolean enabled, boolean accountNonLocked, long tokenVersion) {
+
+  public static UserAccountState from(User user) {
+    return new UserAccountState(
+        user.getId(),
+        user.getRole(),
+        user.isEnabled(),
+        user.isAccountNonLocked(),
+        user.getTokenVersion());
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.usertemplate.user.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.usertemplate.user.entity.Role;
+
+// 내보내기 전용 프로젝션. 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않는다
+public record UserExportRow(
+    Long id,
+    String username,
+    String email,
+    Role role,
+    boolean enabled,
+    boolean accountNonLocked,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt) {}
@@ -0,0 +1,3 @@
+package com.example.usertemplate.user.dto;
+
+public record UserIdentity(String username, String email) {}
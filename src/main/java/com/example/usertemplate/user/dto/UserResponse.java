@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import com.example.usertemplate.user.entity.Role;
 import com.example.usertemplate.user.entity.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public record UserResponse(
     Long id,
@@ -12,7 +13,9 @@ public record UserResponse(
     Role role,
     boolean enabled,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt) {
+    LocalDateTime updatedAt,
+    // 본문 대신 ETag 로 전달한다
+    @JsonIgnore long version) {
   public static UserResponse from(User user) {
     return new UserResponse(
         user.getId(),
@@ -21,6 +24,7 @@ public record UserResponse(
         user.getRole(),
         user.isEnabled(),
         user.getCreatedAt(),
-        user.getUpdatedAt());
+        user.getUpdatedAt(),
+        user.getVersion());
   }
 }
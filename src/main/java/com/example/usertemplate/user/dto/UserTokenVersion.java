@@ -0,0 +1,3 @@
+package com.example.usertemplate.user.dto;
+
+public record UserTokenVersion(Long id, long tokenVersion) {}
@@ -1,6 +1,19 @@
 package com.example.usertemplate.user.entity;
 
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
 public enum Role {
   USER,
-  ADMIN
+  ADMIN;
+
+  // 역할별 권한 목록은 불변이므로 요청마다 새로 만들지 않고 공유한다
+  private final List<GrantedAuthority> authorities =
+      List.of(new SimpleGrantedAuthority("ROLE_" + name()));
+
+  public List<GrantedAuthority> getAuthorities() {
+    return authorities;
+  }
 }
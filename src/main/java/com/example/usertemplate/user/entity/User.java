@@ -1,7 +1,7 @@
 package com.example.usertemplate.user.entity;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Objects;
 
 import jakarta.persistence.*;
@@ -9,8 +9,9 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import com.example.usertemplate.global.common.BaseEntity;
@@ -18,7 +19,22 @@ import com.example.usertemplate.global.common.BaseEntity;
 import lombok.*;
 
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    // 중복 검사는 이 제약 조건에 맡긴다 (이름으로 DUPLICATE_USERNAME/EMAIL 을 구분)
+    uniqueConstraints = {
+      @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+      @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+    },
+    indexes = {
+      // 관리자 목록 키셋 페이지네이션용 (username, email 은 unique 인덱스 사용)
+      @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+      // UserPurger 가 오래된 삭제 표시부터 찾는다
+      @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+    })
+// 삭제 표시된 사용자는 모든 엔티티 조회(JPQL, findById, Specification)에서 제외된다.
+// 삭제 표시된 행까지 봐야 하는 조회(중복 검사 등)는 네이티브 SQL 을 사용한다
+@SQLRestriction("deleted_at is null")
 @Getter
 @Setter
 @ToString(callSuper = true)
@@ -27,16 +43,20 @@ import lombok.*;
 @Builder
 public class User extends BaseEntity implements UserDetails {
 
+  // unique 제약 조건 이름. UserConstraints 가 위반 예외를 이 이름으로 구분한다
+  public static final String USERNAME_CONSTRAINT = "uk_users_username";
+  public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @Column(unique = true, nullable = false)
+  @Column(nullable = false)
   @NotBlank(message = "Username is required")
   @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
   private String username;
 
-  @Column(unique = true, nullable = false)
+  @Column(nullable = false)
   @Email(message = "Email should be valid")
   @NotBlank(message = "Email is required")
   private String email;
@@ -58,10 +78,30 @@ public class User extends BaseEntity implements UserDetails {
 
   @Builder.Default private boolean credentialsNonExpired = true;
 
+  // 비밀번호 변경, 삭제 등 기존 토큰을 무효화해야 할 때 증가시킨다
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private long tokenVersion = 0;
+
+  // 낙관적 잠금. 사용자 정보를 바꾸는 벌크 UPDATE 도 함께 증가시키며 ETag 로 노출된다
+  @Version
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private long version = 0;
+
+  // 삭제 표시 시각 (soft delete). 보존 기간이 지나면 UserPurger 가 행을 지운다
+  private LocalDateTime deletedAt;
+
+  public void revokeTokens() {
+    tokenVersion++;
+  }
+
   // UserDetails implementation
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
-    return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    return role.getAuthorities();
   }
 
   @Override
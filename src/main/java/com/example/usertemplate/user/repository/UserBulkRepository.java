@@ -0,0 +1,31 @@
+package com.example.usertemplate.user.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.example.usertemplate.user.dto.UserIdentity;
+import com.example.usertemplate.user.dto.UserTokenVersion;
+import com.example.usertemplate.user.entity.User;
+
+// JPA 를 거치지 않는 SQL. IDENTITY 키 때문에 Hibernate 가 배치로 묶지 못하는 대량 쓰기와,
+// 엔티티 조회에서 제외되는 삭제 표시 행까지 봐야 하는 조회
+public interface UserBulkRepository {
+
+  // 하나의 multi-row INSERT 로 저장한다. 중복이 하나라도 있으면 전체가 실패한다
+  int insertAll(List<User> users);
+
+  // 삭제된 사용자도 포함한다 (삭제 시 tokenVersion 을 올리므로 기존 토큰 거부 기준이 된다)
+  List<UserTokenVersion> findTokenVersionsUpdatedSince(LocalDateTime since);
+
+  // unique 제약 조건에 남아 있는 모든 username/email (삭제 표시 행 포함).
+  // 트랜잭션 안에서 소비해야 하며 사용 후 반드시 닫아야 한다
+  Stream<UserIdentity> streamIdentities();
+
+  // 삭제 표시된 행의 username/email. 실제 삭제 전에 읽어 두어 가용성 인덱스에서 뺀다
+  List<UserIdentity> findDeletedIdentities(Collection<Long> ids);
+
+  // 가장 오래된 삭제 표시 시각. 없으면 null
+  LocalDateTime findOldestDeletedAt();
+}
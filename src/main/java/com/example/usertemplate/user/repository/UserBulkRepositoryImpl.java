@@ -0,0 +1,102 @@
+package com.example.usertemplate.user.repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.usertemplate.user.dto.UserIdentity;
+import com.example.usertemplate.user.dto.UserTokenVersion;
+import com.example.usertemplate.user.entity.User;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class UserBulkRepositoryImpl implements UserBulkRepository {
+
+  private static final String INSERT =
+      "insert into users (username, email, password, role, enabled, account_non_expired,"
+          + " account_non_locked, credentials_non_expired, token_version, version, created_at,"
+          + " updated_at) values ";
+  private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final int IDENTITY_FETCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public int insertAll(List<User> users) {
+    if (users.isEmpty()) {
+      return 0;
+    }
+    StringBuilder sql = new StringBuilder(INSERT.length() + users.size() * (ROW.length() + 2));
+    sql.append(INSERT);
+    for (int i = 0; i < users.size(); i++) {
+      sql.append(i == 0 ? "" : ", ").append(ROW);
+    }
+
+    // 감사 필드는 JPA 리스너를 거치지 않으므로 직접 채운다
+    LocalDateTime now = LocalDateTime.now();
+    return jdbcTemplate.update(
+        sql.toString(),
+        ps -> {
+          int index = 1;
+          for (User user : users) {
+            ps.setString(index++, user.getUsername());
+            ps.setString(index++, user.getEmail());
+            ps.setString(index++, user.getPassword());
+            ps.setString(index++, user.getRole().name());
+            ps.setBoolean(index++, user.isEnabled());
+            ps.setBoolean(index++, user.isAccountNonExpired());
+            ps.setBoolean(index++, user.isAccountNonLocked());
+            ps.setBoolean(index++, user.isCredentialsNonExpired());
+            ps.setLong(index++, user.getTokenVersion());
+            ps.setLong(index++, user.getVersion());
+            ps.setObject(index++, now);
+            ps.setObject(index++, now);
+          }
+        });
+  }
+
+  @Override
+  public List<UserTokenVersion> findTokenVersionsUpdatedSince(LocalDateTime since) {
+    return jdbcTemplate.query(
+        "select id, token_version from users where token_version > 0 and updated_at >= ?",
+        (rs, rowNum) -> new UserTokenVersion(rs.getLong(1), rs.getLong(2)),
+        since);
+  }
+
+  @Override
+  public Stream<UserIdentity> streamIdentities() {
+    return jdbcTemplate.queryForStream(
+        connection -> {
+          PreparedStatement ps = connection.prepareStatement("select username, email from users");
+          ps.setFetchSize(IDENTITY_FETCH_SIZE);
+          return ps;
+        },
+        (rs, rowNum) -> new UserIdentity(rs.getString(1), rs.getString(2)));
+  }
+
+  @Override
+  public List<UserIdentity> findDeletedIdentities(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+    return jdbcTemplate.query(
+        "select username, email from users where deleted_at is not null and id in ("
+            + placeholders
+            + ")",
+        (rs, rowNum) -> new UserIdentity(rs.getString(1), rs.getString(2)),
+        ids.toArray());
+  }
+
+  @Override
+  public LocalDateTime findOldestDeletedAt() {
+    return jdbcTemplate.queryForObject(
+        "select min(deleted_at) from users where deleted_at is not null", LocalDateTime.class);
+  }
+}
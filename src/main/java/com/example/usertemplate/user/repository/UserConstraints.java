@@ -0,0 +1,62 @@
+package com.example.usertemplate.user.repository;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+import com.example.usertemplate.user.entity.User;
+
+// users 테이블의 unique 제약 조건 위반 예외 변환. 중복 여부를 미리 조회하지 않고 INSERT/UPDATE 를
+// 바로 시도한 뒤, 위반한 제약 조건 이름(User 에 선언)으로 어느 필드가 중복인지 판단한다
+public final class UserConstraints {
+
+  private UserConstraints() {}
+
+  // 제약 조건 이름을 알 수 없으면 (Hibernate 가 만든 UK_xxx 이름이 남아 있는 기존 DB) 값으로 다시 조회해
+  // 판단하고, 그래도 중복이 아니면 원래 예외를 그대로 반환한다. 조회가 필요하므로 실패한 트랜잭션 밖에서 호출한다.
+  // userId 는 변경 대상 사용자 (새 사용자면 null), 바꾸지 않는 값은 null
+  public static RuntimeException translate(
+      DataIntegrityViolationException ex,
+      UserRepository userRepository,
+      Long userId,
+      String username,
+      String email) {
+    String constraint = constraintName(ex);
+    if (constraint.contains(User.USERNAME_CONSTRAINT)) {
+      return new BusinessException(ErrorCode.DUPLICATE_USERNAME);
+    }
+    if (constraint.contains(User.EMAIL_CONSTRAINT)) {
+      return new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+    }
+    if (username != null && takenByOther(userRepository.findIdByUsername(username), userId)) {
+      return new BusinessException(ErrorCode.DUPLICATE_USERNAME);
+    }
+    if (email != null && takenByOther(userRepository.findIdByEmail(email), userId)) {
+      return new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+    }
+    return ex;
+  }
+
+  private static boolean takenByOther(Optional<Long> ownerId, Long userId) {
+    return ownerId.isPresent() && !ownerId.get().equals(userId);
+  }
+
+  // Hibernate 가 추출한 제약 조건 이름을 우선 사용하고, 없으면 (JdbcTemplate 경로) 드라이버 메시지를 본다.
+  // H2 는 대문자 인덱스 이름을 메시지에 포함하므로 소문자로 비교한다
+  private static String constraintName(DataIntegrityViolationException ex) {
+    String name = null;
+    for (Throwable cause = ex; cause != null && name == null; cause = cause.getCause()) {
+      if (cause instanceof org.hibernate.exception.ConstraintViolationException violation) {
+        name = violation.getConstraintName();
+      }
+    }
+    if (name == null) {
+      name = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+    }
+    return name == null ? "" : name.toLowerCase(Locale.ROOT);
+  }
+}
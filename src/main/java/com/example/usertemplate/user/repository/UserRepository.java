@@ -1,13 +1,200 @@
 package com.example.usertemplate.user.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.usertemplate.user.dto.UserExportRow;
+import com.example.usertemplate.user.entity.Role;
 import com.example.usertemplate.user.entity.User;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-  boolean existsByUsername(String username);
+public interface UserRepository
+    extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>, UserBulkRepository {
+  Optional<User> findByUsername(String username);
+
+  // 중복 검사는 unique 제약 조건과 같게 삭제 표시된 행도 포함한다 (네이티브 SQL)
+  @Query(
+      value = "select count(*) > 0 from users where username = :username",
+      nativeQuery = true)
+  boolean existsByUsername(@Param("username") String username);
+
+  @Query(value = "select count(*) > 0 from users where email = :email", nativeQuery = true)
+  boolean existsByEmail(@Param("email") String email);
+
+  // 제약 조건 이름으로 중복 필드를 알 수 없을 때 (UserConstraints) 값의 소유자를 확인한다
+  @Query(value = "select id from users where username = :username", nativeQuery = true)
+  Optional<Long> findIdByUsername(@Param("username") String username);
+
+  @Query(value = "select id from users where email = :email", nativeQuery = true)
+  Optional<Long> findIdByEmail(@Param("email") String email);
+
+  @Query(
+      value = "select username from users where username in (:usernames)",
+      nativeQuery = true)
+  List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+  @Query(value = "select email from users where email in (:emails)", nativeQuery = true)
+  List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+  @Modifying
+  @Transactional
+  @Query("update User u set u.password = :password where u.id = :id and u.deletedAt is null")
+  int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+  // 이미 잠긴 계정이면 0 을 반환한다
+  @Modifying
+  @Transactional
+  @Query(
+      "update User u set u.accountNonLocked = false, u.tokenVersion = u.tokenVersion + 1,"
+          + " u.version = u.version + 1, u.updatedAt = local datetime"
+          + " where u.id = :id and u.accountNonLocked = true and u.deletedAt is null")
+  int lockAccount(@Param("id") Long id);
+
+  // 조회 없이 한 번의 UPDATE 로 변경한다. null 인 값은 그대로 둔다. version 이 음수(EntityTags.ANY_VERSION)가
+  // 아니면 일치할 때만 변경한다. 바뀌는 값이 없으면 행을 쓰지 않아 version(ETag)도 그대로이므로, 0 을 반환하면
+  // 사용자가 없거나 버전이 충돌했거나 변경 사항이 없는 것이다
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Transactional
+  @Query(
+      "update User u set u.username = coalesce(:username, u.username),"
+          + " u.email = coalesce(:email, u.email), u.password = coalesce(:password, u.password),"
+          + " u.tokenVersion = u.tokenVersion + :tokenVersionIncrement,"
+          + " u.version = u.version + 1, u.updatedAt = local datetime"
+          + " where u.id = :id and (:version < 0 or u.version = :version)"
+          + " and u.deletedAt is null"
+          + " and (u.username <> coalesce(:username, u.username)"
+          + " or u.email <> coalesce(:email, u.email)"
+          + " or u.password <> coalesce(:password, u.password))")
+  int updateFields(
+      @Param("id") Long id,
+      @Param("version") long version,
+      @Param("username") String username,
+      @Param("email") String email,
+      @Param("password") String password,
+      @Param("tokenVersionIncrement") long tokenVersionIncrement);
+
+  // 삭제 표시만 하는 UPDATE 한 번 (행과 인덱스 정리는 UserPurger 가 나중에 한다).
+  // tokenVersion 도 올려 재시작 후 복원되는 최소 토큰 버전으로도 기존 토큰이 거부되게 한다
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Transactional
+  @Query(
+      "update User u set u.deletedAt = local datetime, u.updatedAt = local datetime,"
+          + " u.tokenVersion = u.tokenVersion + 1, u.version = u.version + 1"
+          + " where u.id = :id and u.deletedAt is null")
+  int softDelete(@Param("id") Long id);
+
+  // 보존 기간이 지난 삭제 표시 행을 오래된 순으로 limit 개
+  @Query(
+      value =
+          "select id from users where deleted_at < :deletedBefore"
+              + " order by deleted_at limit :limit",
+      nativeQuery = true)
+  List<Long> findPurgeableIds(
+      @Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+
+  // 삭제 표시된 행만 지운다 (조회와 삭제 사이에 복구된 경우 대비)
+  @Modifying
+  @Transactional
+  @Query(
+      value = "delete from users where id in (:ids) and deleted_at is not null",
+      nativeQuery = true)
+  int purgeDeleted(@Param("ids") Collection<Long> ids);
+
+  // 벌크 관리자 작업 대상의 현재 상태 (결과 구분과 토큰 폐기 기준 버전 계산용).
+  // 이어지는 UPDATE 까지 행을 잠그며 (select ... for update), 동시 벌크 작업끼리 교착되지 않도록
+  // id 순으로 잠근다. 생성자 표현식(DTO) 조회에는 잠금이 적용되지 않으므로 엔티티로 읽는다
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select u from User u where u.id in :ids order by u.id")
+  List<User> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+  // 조건에 맞는 사용자 id 를 afterId 다음부터 id 순으로 (null 인 조건은 적용하지 않는다)
+  @Query(
+      "select u.id from User u where u.id > :afterId"
+          + " and (:role is null or u.role = :role)"
+          + " and (:enabled is null or u.enabled = :enabled)"
+          + " and (:accountNonLocked is null or u.accountNonLocked = :accountNonLocked)"
+          + " and (:createdFrom is null or u.createdAt >= :createdFrom)"
+          + " and (:createdTo is null or u.createdAt < :createdTo)"
+          + " order by u.id")
+  List<Long> findIdsByFilter(
+      @Param("afterId") long afterId,
+      @Param("role") Role role,
+      @Param("enabled") Boolean enabled,
+      @Param("accountNonLocked") Boolean accountNonLocked,
+      @Param("createdFrom") LocalDateTime createdFrom,
+      @Param("createdTo") LocalDateTime createdTo,
+      Pageable pageable);
+
+  // 벌크 변경은 id 목록 단위 UPDATE 한 번이며, 이미 같은 상태인 행은 건드리지 않는다
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Transactional
+  @Query(
+      "update User u set u.accountNonLocked = :accountNonLocked,"
+          + " u.tokenVersion = u.tokenVersion + :tokenVersionIncrement,"
+          + " u.version = u.version + 1, u.updatedAt = local datetime"
+          + " where u.id in :ids and u.accountNonLocked <> :accountNonLocked"
+          + " and u.deletedAt is null")
+  int updateAccountNonLocked(
+      @Param("ids") Collection<Long> ids,
+      @Param("accountNonLocked") boolean accountNonLocked,
+      @Param("tokenVersionIncrement") long tokenVersionIncrement);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Transactional
+  @Query(
+      "update User u set u.enabled = :enabled,"
+          + " u.tokenVersion = u.tokenVersion + :tokenVersionIncrement,"
+          + " u.version = u.version + 1, u.updatedAt = local datetime"
+          + " where u.id in :ids and u.enabled <> :enabled and u.deletedAt is null")
+  int updateEnabled(
+      @Param("ids") Collection<Long> ids,
+      @Param("enabled") boolean enabled,
+      @Param("tokenVersionIncrement") long tokenVersionIncrement);
+
+  // 역할은 토큰 클레임에도 들어가므로 tokenVersion 을 올린다
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Transactional
+  @Query(
+      "update User u set u.role = :role, u.tokenVersion = u.tokenVersion + 1,"
+          + " u.version = u.version + 1, u.updatedAt = local datetime"
+          + " where u.id in :ids and u.role <> :role and u.deletedAt is null")
+  int updateRole(@Param("ids") Collection<Long> ids, @Param("role") Role role);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Transactional
+  @Query(
+      "update User u set u.deletedAt = local datetime, u.updatedAt = local datetime,"
+          + " u.tokenVersion = u.tokenVersion + 1, u.version = u.version + 1"
+          + " where u.id in :ids and u.deletedAt is null")
+  int softDeleteAll(@Param("ids") Collection<Long> ids);
 
-  boolean existsByEmail(String email);
+  // 전방향 커서로 한 번에 조회한다. 트랜잭션 안에서 소비해야 하며 사용 후 반드시 닫아야 한다
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query(
+      "select new com.example.usertemplate.user.dto.UserExportRow(u.id, u.username, u.email,"
+          + " u.role, u.enabled, u.accountNonLocked, u.createdAt, u.updatedAt)"
+          + " from User u order by u.id")
+  Stream<UserExportRow> streamAllForExport();
 }
@@ -0,0 +1,101 @@
+package com.example.usertemplate.user.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 4비트 카운터를 사용하는 lock-free counting Bloom filter. 카운터 16개를 long 하나에 담고 CAS 로 증감한다.
+// 포화(15)된 카운터는 감소시키지 않으므로 거짓 음성 대신 거짓 양성 쪽으로만 어긋난다
+final class CountingBloomFilter {
+
+  private static final int COUNTERS_PER_WORD = 16;
+  private static final long MAX_COUNT = 15;
+
+  private final AtomicLongArray words;
+  private final long counters;
+  private final int hashes;
+
+  CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1, expectedInsertions);
+    double ln2 = Math.log(2);
+    long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+    long wordCount = Math.max(1, (bits + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+    if (wordCount > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Bloom filter too large: " + expectedInsertions);
+    }
+    this.words = new AtomicLongArray((int) wordCount);
+    this.counters = wordCount * COUNTERS_PER_WORD;
+    this.hashes = Math.max(1, (int) Math.round((double) counters / n * ln2));
+  }
+
+  void add(long hash) {
+    long h2 = mix(hash);
+    for (int i = 0; i < hashes; i++) {
+      update(index(hash, h2, i), 1);
+    }
+  }
+
+  void remove(long hash) {
+    long h2 = mix(hash);
+    for (int i = 0; i < hashes; i++) {
+      update(index(hash, h2, i), -1);
+    }
+  }
+
+  boolean mightContain(long hash) {
+    long h2 = mix(hash);
+    for (int i = 0; i < hashes; i++) {
+      long index = index(hash, h2, i);
+      if (count(words.get((int) (index >>> 4)), index) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  long sizeInBytes() {
+    return (long) words.length() * Long.BYTES;
+  }
+
+  private void update(long index, int delta) {
+    int word = (int) (index >>> 4);
+    int shift = (int) (index & 15) << 2;
+    while (true) {
+      long current = words.get(word);
+      long count = (current >>> shift) & MAX_COUNT;
+      if (count == MAX_COUNT || (delta < 0 && count == 0)) {
+        return;
+      }
+      long next = delta > 0 ? current + (1L << shift) : current - (1L << shift);
+      if (words.compareAndSet(word, current, next)) {
+        return;
+      }
+    }
+  }
+
+  private static long count(long word, long index) {
+    return (word >>> ((int) (index & 15) << 2)) & MAX_COUNT;
+  }
+
+  // Kirsch-Mitzenmacher 이중 해시: h1 + i * h2
+  private long index(long h1, long h2, int i) {
+    return Math.floorMod(h1 + i * h2, counters);
+  }
+
+  // FNV-1a 뒤에 murmur3 fmix64 로 비트를 섞는다
+  static long hash(long seed, String value) {
+    long h = seed;
+    for (int i = 0; i < value.length(); i++) {
+      h ^= value.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    return mix(h);
+  }
+
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,233 @@
+package com.example.usertemplate.user.service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usertemplate.user.dto.UserIdentity;
+import com.example.usertemplate.user.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 사용 중인 username/email 의 메모리 인덱스. "없음" 은 확정이고 "있을 수도 있음" 일 때만 DB 를 조회한다.
+// 시작 시 users 테이블에서 채우고 가입/수정/삭제 시 갱신하며, 삭제 누적과 증가분을 반영하도록 주기적으로 다시 만든다.
+// 어긋나더라도 unique 제약 조건이 최종 판단을 하므로 결과는 가입 폼 안내용이다
+@Slf4j
+@Component
+public class UserAvailabilityIndex {
+
+  private static final long USERNAME_SEED = 0xcbf29ce484222325L;
+  private static final long EMAIL_SEED = 0x9e3779b97f4a7c15L;
+
+  private final UserRepository userRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final long expectedUsers;
+  private final double falsePositiveRate;
+
+  // 준비되기 전에는 null (모든 조회를 DB 로 넘긴다)
+  private volatile CountingBloomFilter filter;
+  // 재생성 중에 발생한 변경을 새 필터에도 반영하기 위해 보관한다
+  private volatile Rebuild rebuilding;
+  // 추가/삭제 반영과 재생성 완료(필터 교체)를 직렬화한다. rebuild() 전체를 잡는 모니터와 분리해
+  // 커밋 이후 콜백이 재생성 내내 기다리지 않게 한다
+  private final Object swapLock = new Object();
+
+  public UserAvailabilityIndex(
+      UserRepository userRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${security.availability.expected-users:1000000}") long expectedUsers,
+      @Value("${security.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+    this.userRepository = userRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.expectedUsers = expectedUsers;
+    this.falsePositiveRate = falsePositiveRate;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${security.availability.rebuild-interval:PT6H}",
+      fixedDelayString = "${security.availability.rebuild-interval:PT6H}")
+  public synchronized void rebuild() {
+    long start = System.nanoTime();
+    // username, email 두 키씩, 현재 사용자 수의 두 배까지 여유를 둔다
+    long capacity = 2 * Math.max(expectedUsers, userRepository.count() * 2);
+    Rebuild next = new Rebuild(new CountingBloomFilter(capacity, falsePositiveRate));
+    rebuilding = next;
+    try {
+      AtomicLong loaded = new AtomicLong();
+      readOnlyTransaction.executeWithoutResult(
+          status -> {
+            try (Stream<UserIdentity> identities = userRepository.streamIdentities()) {
+              identities.forEach(
+                  identity -> {
+                    next.load(identity.username(), identity.email());
+                    loaded.incrementAndGet();
+                  });
+            }
+          });
+      synchronized (swapLock) {
+        next.applyRemovals();
+        filter = next.filter;
+        rebuilding = null;
+      }
+      log.info(
+          "Availability index built: {} users, {} KiB, {} ms",
+          loaded.get(),
+          next.filter.sizeInBytes() / 1024,
+          (System.nanoTime() - start) / 1_000_000);
+    } finally {
+      rebuilding = null;
+    }
+  }
+
+  public boolean mightContainUsername(String username) {
+    CountingBloomFilter current = filter;
+    return current == null
+        || current.mightContain(CountingBloomFilter.hash(USERNAME_SEED, username));
+  }
+
+  public boolean mightContainEmail(String email) {
+    CountingBloomFilter current = filter;
+    return current == null || current.mightContain(CountingBloomFilter.hash(EMAIL_SEED, email));
+  }
+
+  // 저장 직후(커밋 전) 호출한다. 롤백되면 거짓 양성이 하나 남을 뿐이다. null 인 값은 건너뛴다.
+  // 교체와 겹치면 이전 필터에만 들어가고 새 필터에서 빠질 수 있으므로 swapLock 을 잡는다
+  public void add(String username, String email) {
+    synchronized (swapLock) {
+      add(filter, username, email);
+      Rebuild current = rebuilding;
+      if (current != null) {
+        current.add(username, email);
+      }
+    }
+  }
+
+  // 실제로 지워진 값 (UserPurger). 커밋 이후에 반영해 커밋 전에는 계속 사용 중으로 보이게 한다
+  public void remove(String username, String email) {
+    afterCommit(
+        () -> {
+          synchronized (swapLock) {
+            remove(filter, username, email);
+            Rebuild current = rebuilding;
+            if (current != null) {
+              current.remove(username, email);
+            }
+          }
+        });
+  }
+
+  private static void add(CountingBloomFilter target, String username, String email) {
+    if (target == null) {
+      return;
+    }
+    if (username != null) {
+      target.add(CountingBloomFilter.hash(USERNAME_SEED, username));
+    }
+    if (email != null) {
+      target.add(CountingBloomFilter.hash(EMAIL_SEED, email));
+    }
+  }
+
+  private static void remove(CountingBloomFilter target, String username, String email) {
+    if (target == null) {
+      return;
+    }
+    if (username != null) {
+      target.remove(CountingBloomFilter.hash(USERNAME_SEED, username));
+    }
+    if (email != null) {
+      target.remove(CountingBloomFilter.hash(EMAIL_SEED, email));
+    }
+  }
+
+  // 재생성 중인 필터. 스트리밍 조회의 스냅샷보다 먼저 커밋된 삭제의 키는 새 필터에 없는데, 그 키를 빼면
+  // 다른 키와 공유하는 카운터가 줄어 사용 중인 값을 "없음" 으로 답하게 된다. 그래서 재생성 중의 삭제는 모아
+  // 두었다가 교체 직전에 새 필터에 실제로 넣은 키만 뺀다. 판단할 수 없는 키는 남겨 두며(거짓 양성),
+  // 다음 재생성 때 정리된다
+  private static final class Rebuild {
+    private final CountingBloomFilter filter;
+    // 키 -> 삭제 횟수
+    private final ConcurrentHashMap<Long, Integer> removed = new ConcurrentHashMap<>();
+    // 이 필터에 넣은 키 중 조회 시점에 이미 삭제 대기 중이던 키와, 재생성 중에 추가된 키
+    private final Set<Long> inserted = ConcurrentHashMap.newKeySet();
+
+    Rebuild(CountingBloomFilter filter) {
+      this.filter = filter;
+    }
+
+    void load(String username, String email) {
+      load(CountingBloomFilter.hash(USERNAME_SEED, username));
+      load(CountingBloomFilter.hash(EMAIL_SEED, email));
+    }
+
+    private void load(long hash) {
+      filter.add(hash);
+      if (removed.containsKey(hash)) {
+        inserted.add(hash);
+      }
+    }
+
+    void add(String username, String email) {
+      if (username != null) {
+        insert(CountingBloomFilter.hash(USERNAME_SEED, username));
+      }
+      if (email != null) {
+        insert(CountingBloomFilter.hash(EMAIL_SEED, email));
+      }
+    }
+
+    private void insert(long hash) {
+      filter.add(hash);
+      inserted.add(hash);
+    }
+
+    void remove(String username, String email) {
+      if (username != null) {
+        removed.merge(CountingBloomFilter.hash(USERNAME_SEED, username), 1, Integer::sum);
+      }
+      if (email != null) {
+        removed.merge(CountingBloomFilter.hash(EMAIL_SEED, email), 1, Integer::sum);
+      }
+    }
+
+    // swapLock 안에서 호출한다
+    void applyRemovals() {
+      removed.forEach(
+          (hash, count) -> {
+            if (inserted.contains(hash)) {
+              for (int i = 0; i < count; i++) {
+                filter.remove(hash);
+              }
+            }
+          });
+    }
+  }
+
+  // 트랜잭션이 없으면 바로 실행한다
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
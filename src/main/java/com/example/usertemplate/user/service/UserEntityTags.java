@@ -0,0 +1,32 @@
+package com.example.usertemplate.user.service;
+
+import org.springframework.stereotype.Component;
+
+import com.example.usertemplate.auth.security.PrincipalCache;
+import com.example.usertemplate.auth.security.UserPrincipal;
+import com.example.usertemplate.global.common.EntityTags;
+import com.example.usertemplate.user.dto.UserResponse;
+
+import lombok.RequiredArgsConstructor;
+
+// 사용자 응답의 ETag (id + version). 사용자 정보가 바뀌면 principal 캐시가 제거되므로
+// 캐시에 있는 principal 의 version 은 DB 와 같다
+@Component
+@RequiredArgsConstructor
+public class UserEntityTags {
+
+  private final PrincipalCache principalCache;
+
+  // principal 캐시로 계산한 현재 ETag. 캐시에 없으면 null (DB 를 조회하지 않는다)
+  public String cached(Long userId) {
+    UserPrincipal principal = principalCache.getIfPresent(userId);
+    if (principal == null || principal.version() == null) {
+      return null;
+    }
+    return EntityTags.of(userId, principal.version());
+  }
+
+  public static String of(UserResponse user) {
+    return EntityTags.of(user.id(), user.version());
+  }
+}
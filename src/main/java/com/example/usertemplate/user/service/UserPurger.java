@@ -0,0 +1,130 @@
+package com.example.usertemplate.user.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usertemplate.auth.repository.RefreshTokenRepository;
+import com.example.usertemplate.user.dto.UserIdentity;
+import com.example.usertemplate.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 삭제 표시된 사용자를 보존 기간이 지난 뒤 실제로 지운다. 요청 경로에서 하던 인덱스 정리와 연관 데이터
+// 삭제를 한산한 시간대(cron)에 batch-size 행씩 짧은 트랜잭션으로 나눠 실행한다.
+// users.purge.deleted 는 처리량, users.purge.lag 은 보존 기간을 넘기고도 남아 있는 가장 오래된 행의 초
+@Slf4j
+@Component
+public class UserPurger {
+
+  private final UserRepository userRepository;
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final UserAvailabilityIndex availabilityIndex;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration retention;
+  private final int batchSize;
+  private final int maxBatches;
+  private final Duration pause;
+  private final Counter purged;
+  private final Timer batchTimer;
+
+  // 가장 오래된 삭제 표시 시각 (없으면 null). lag 게이지가 읽는다
+  private volatile LocalDateTime oldestDeletedAt;
+
+  public UserPurger(
+      UserRepository userRepository,
+      RefreshTokenRepository refreshTokenRepository,
+      UserAvailabilityIndex availabilityIndex,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${users.purge.retention:PT24H}") Duration retention,
+      @Value("${users.purge.batch-size:500}") int batchSize,
+      @Value("${users.purge.max-batches:100}") int maxBatches,
+      @Value("${users.purge.pause:PT0.1S}") Duration pause) {
+    this.userRepository = userRepository;
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.availabilityIndex = availabilityIndex;
+    this.transactionTemplate = transactionTemplate;
+    this.retention = retention;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+    this.pause = pause;
+    this.purged = meterRegistry.counter("users.purge.deleted");
+    this.batchTimer = meterRegistry.timer("users.purge.batch");
+    Gauge.builder("users.purge.lag", this, UserPurger::lagSeconds)
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  // 한 번에 최대 max-batches 번. 남은 행은 다음 실행에서 이어서 지운다
+  @Scheduled(cron = "${users.purge.cron:0 */10 1-5 * * *}")
+  public void purge() {
+    LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+    long total = 0;
+    for (int batch = 0; batch < maxBatches; batch++) {
+      int deleted = batchTimer.record(() -> purgeBatch(deletedBefore));
+      purged.increment(deleted);
+      total += deleted;
+      if (deleted < batchSize || !pause()) {
+        break;
+      }
+    }
+    refreshLag();
+    if (total > 0) {
+      log.info("Purged {} deleted users", total);
+    }
+  }
+
+  private int purgeBatch(LocalDateTime deletedBefore) {
+    Integer deleted =
+        transactionTemplate.execute(
+            status -> {
+              List<Long> ids = userRepository.findPurgeableIds(deletedBefore, batchSize);
+              if (ids.isEmpty()) {
+                return 0;
+              }
+              // 지운 뒤에는 값을 알 수 없으므로 먼저 읽는다. 인덱스에서는 커밋 이후에 빠진다
+              List<UserIdentity> identities = userRepository.findDeletedIdentities(ids);
+              refreshTokenRepository.deleteByUserIds(ids);
+              int deleted = userRepository.purgeDeleted(ids);
+              identities.forEach(
+                  identity -> availabilityIndex.remove(identity.username(), identity.email()));
+              return deleted;
+            });
+    return deleted == null ? 0 : deleted;
+  }
+
+  // 다른 요청이 커넥션과 잠금을 얻을 수 있도록 배치 사이에 쉰다. 중단되면 false
+  private boolean pause() {
+    try {
+      Thread.sleep(pause);
+      return true;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  // 삭제 시각 인덱스의 최솟값 조회 한 번. 정리 시간대 밖에서도 lag 이 늘어나는 것이 보이도록 주기적으로 갱신한다
+  @Scheduled(fixedDelayString = "${users.purge.lag-refresh-interval:PT1M}")
+  public void refreshLag() {
+    oldestDeletedAt = userRepository.findOldestDeletedAt();
+  }
+
+  private double lagSeconds() {
+    LocalDateTime oldest = oldestDeletedAt;
+    if (oldest == null) {
+      return 0;
+    }
+    return Math.max(0, Duration.between(oldest.plus(retention), LocalDateTime.now()).toSeconds());
+  }
+}
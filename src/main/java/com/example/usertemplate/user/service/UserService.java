@@ -7,7 +7,8 @@ public interface UserService {
 
   UserResponse getUserById(Long id);
 
-  UserResponse updateCurrentUser(Long userId, UserUpdateRequest request);
+  // expectedVersion 은 If-Match 의 버전 (확인하지 않으면 EntityTags.ANY_VERSION)
+  UserResponse updateCurrentUser(Long userId, UserUpdateRequest request, long expectedVersion);
 
   void deleteCurrentUser(Long userId);
 }
@@ -5,7 +5,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.usertemplate.auth.security.PrincipalCache;
 import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
 import com.example.usertemplate.user.dto.UserResponse;
 import com.example.usertemplate.user.dto.UserUpdateRequest;
 import com.example.usertemplate.user.entity.User;
@@ -22,6 +24,7 @@ public class UserServiceImpl implements UserService {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final TransactionTemplate transactionTemplate;
+  private final PrincipalCache principalCache;
 
   @Override
   @Transactional(readOnly = true)
@@ -29,12 +32,13 @@ public class UserServiceImpl implements UserService {
     User user =
         userRepository
             .findById(id)
-            .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     return UserResponse.from(user);
   }
 
   @Override
-  public UserResponse updateCurrentUser(Long userId, UserUpdateRequest request) {
+  public UserResponse updateCurrentUser(
+      Long userId, UserUpdateRequest request, long expectedVersion) {
     // 🔧 Service 책임: 비즈니스 로직 검증
     if (userId == null) {
       throw new IllegalArgumentException("User ID cannot be null");
@@ -43,23 +47,35 @@ public class UserServiceImpl implements UserService {
       throw new IllegalArgumentException("Update request cannot be null");
     }
 
+    // 해시는 트랜잭션(커넥션)을 잡기 전에 계산한다
+    String encodedPassword =
+        request.password() == null ? null : passwordEncoder.encode(request.password());
+
     return transactionTemplate.execute(
         status -> {
-          log.info("🎯 Optimized user self-updating profile: User ID: {}", userId);
+          log.debug("🎯 Optimized user self-updating profile: User ID: {}", userId);
+
+          // 🎯 최적화: 변경 전 조회 없이 버전 조건부 UPDATE 로 변경 (응답용 조회는 변경 후 한 번)
+          int updated =
+              userRepository.updateFields(
+                  userId,
+                  expectedVersion,
+                  null,
+                  null,
+                  encodedPassword,
+                  encodedPassword == null ? 0 : 1);
+          // 변경된 행이 없으면 사용자가 없거나, If-Match 버전이 다르거나, 바뀌는 값이 없는 것이다
+          // (이 경우에만 한 번 더 조회)
+          if (updated == 0) {
+            return UserResponse.from(unchanged(userId, expectedVersion));
+          }
 
-          // 🎯 최적화: ID로 사용자 조회 후 업데이트
-          User user =
+          // 응답 본문과 토큰 폐기 기준 버전은 변경된 행을 PK 로 다시 읽어 얻는다
+          User updatedUser =
               userRepository
                   .findById(userId)
-                  .orElseThrow(
-                      () -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
-
-          if (request.password() != null) {
-            user.setPassword(passwordEncoder.encode(request.password()));
-          }
-
-          // 변경사항이 있을 때만 저장
-          User updatedUser = userRepository.save(user);
+                  .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+          principalCache.revoke(userId, updatedUser.getTokenVersion());
 
           log.info(
               "🎯 Optimized user self-updated profile successfully: User ID: {}",
@@ -72,15 +88,27 @@ public class UserServiceImpl implements UserService {
   @Override
   @Transactional
   public void deleteCurrentUser(Long userId) {
-    log.info("Deleting user: {}", userId);
+    log.debug("Deleting user: {}", userId);
 
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new BusinessException("User not found", 404, "USER_NOT_FOUND"));
-
-    userRepository.delete(user);
+    // 삭제 표시만 하는 UPDATE 한 번. 행과 인덱스 정리는 UserPurger 가 나중에 한다
+    if (userRepository.softDelete(userId) == 0) {
+      throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+    }
+    // username/email 은 행이 지워질 때까지 unique 제약 조건에 남으므로 가용성 인덱스에서 빼지 않는다
+    principalCache.revokeAll(userId);
 
     log.info("User deleted successfully: {}", userId);
   }
+
+  // 조건부 UPDATE 가 0 행일 때: 없는 사용자와 버전 충돌은 예외, 바뀌는 값이 없었으면 현재 상태
+  private User unchanged(Long userId, long expectedVersion) {
+    User current =
+        userRepository
+            .findById(userId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    if (expectedVersion >= 0 && current.getVersion() != expectedVersion) {
+      throw new BusinessException(ErrorCode.VERSION_CONFLICT);
+    }
+    return current;
+  }
 }
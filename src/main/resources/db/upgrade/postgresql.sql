@@ -0,0 +1,54 @@
+-- Brings a database created by the original template up to the current entity mapping, so it
+-- passes ddl-auto: validate (prod). Safe to run more than once. Not executed by the application.
+--
+--   psql "$DATABASE_URL" -f src/main/resources/db/upgrade/postgresql.sql
+
+BEGIN;
+
+-- users: token version (token revocation), optimistic-lock version (ETag), soft delete
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deleted_at timestamp(6);
+
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at ON users (deleted_at);
+
+-- users: the generated UK... unique constraint names become uk_users_username / uk_users_email
+DO $$
+DECLARE
+  c record;
+BEGIN
+  FOR c IN
+    SELECT con.conname, 'uk_users_' || att.attname AS target
+    FROM pg_constraint con
+    JOIN pg_attribute att ON att.attrelid = con.conrelid AND con.conkey = ARRAY[att.attnum]
+    WHERE con.conrelid = 'users'::regclass
+      AND con.contype = 'u'
+      AND att.attname IN ('username', 'email')
+  LOOP
+    IF c.conname <> c.target THEN
+      EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO %I', c.conname, c.target);
+    END IF;
+  END LOOP;
+END $$;
+
+-- refresh_tokens: stored (hashed) refresh tokens with rotation and reuse detection
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+  id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  token_hash varchar(64) NOT NULL,
+  family_id varchar(36) NOT NULL,
+  user_id bigint NOT NULL,
+  token_version bigint NOT NULL,
+  expires_at timestamp(6) NOT NULL,
+  used_at timestamp(6),
+  revoked boolean NOT NULL,
+  created_at timestamp(6),
+  updated_at timestamp(6),
+  CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+COMMIT;
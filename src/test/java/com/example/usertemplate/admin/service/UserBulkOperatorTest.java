@@ -0,0 +1,130 @@
+package com.example.usertemplate.admin.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usertemplate.admin.dto.UserBulkAction;
+import com.example.usertemplate.admin.dto.UserBulkItem;
+import com.example.usertemplate.admin.dto.UserBulkRequest;
+import com.example.usertemplate.admin.dto.UserBulkResult;
+import com.example.usertemplate.auth.security.PrincipalCache;
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+import com.example.usertemplate.user.entity.Role;
+import com.example.usertemplate.user.entity.User;
+import com.example.usertemplate.user.repository.UserRepository;
+
+class UserBulkOperatorTest {
+
+  private static final Long ADMIN_ID = 1L;
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final PrincipalCache principalCache = mock(PrincipalCache.class);
+  private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+  private final UserBulkOperator operator =
+      new UserBulkOperator(userRepository, principalCache, transactionTemplate, 2, 10);
+
+  UserBulkOperatorTest() {
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  @Test
+  void classifiesEachIdAndUpdatesOnlyTheUsersThatNeedIt() {
+    // 2 는 이미 잠겨 있고 3 은 없으며 4 만 바뀐다. 청크 크기 2 이므로 [1, 2], [3, 4] 두 번 처리된다
+    when(userRepository.findAllByIdForUpdate(List.of(1L, 2L)))
+        .thenReturn(List.of(user(1L, true, 0), user(2L, false, 5)));
+    when(userRepository.findAllByIdForUpdate(List.of(3L, 4L)))
+        .thenReturn(List.of(user(4L, true, 7)));
+
+    UserBulkResult result =
+        operator.apply(
+            new UserBulkRequest(UserBulkAction.LOCK, List.of(1L, 2L, 3L, 4L, 4L), null, null),
+            ADMIN_ID);
+
+    assertThat(result.results())
+        .containsExactly(
+            new UserBulkItem(1L, UserBulkItem.Status.SKIPPED),
+            new UserBulkItem(2L, UserBulkItem.Status.UNCHANGED),
+            new UserBulkItem(3L, UserBulkItem.Status.NOT_FOUND),
+            new UserBulkItem(4L, UserBulkItem.Status.UPDATED));
+    assertThat(result.updated()).isEqualTo(1);
+    verify(userRepository, times(2)).findAllByIdForUpdate(any());
+    verify(userRepository).updateAccountNonLocked(List.of(4L), false, 1);
+    // 잠금은 토큰을 폐기하므로 조회한 버전 + 1 이 최소 유효 버전이 된다
+    verify(principalCache).revoke(Map.of(4L, 8L));
+  }
+
+  @Test
+  void evictsWithoutRevokingForActionsThatKeepTokens() {
+    when(userRepository.findAllByIdForUpdate(List.of(5L))).thenReturn(List.of(user(5L, false, 3)));
+
+    operator.apply(new UserBulkRequest(UserBulkAction.UNLOCK, List.of(5L), null, null), ADMIN_ID);
+
+    verify(userRepository).updateAccountNonLocked(List.of(5L), true, 0);
+    verify(principalCache).evict(List.of(5L));
+    verify(principalCache, never()).revoke(anyMap());
+  }
+
+  @Test
+  void skipsTheUpdateWhenNothingChanges() {
+    User admin = user(6L, true, 0);
+    admin.setRole(Role.ADMIN);
+    when(userRepository.findAllByIdForUpdate(List.of(6L))).thenReturn(List.of(admin));
+
+    UserBulkResult result =
+        operator.apply(
+            new UserBulkRequest(UserBulkAction.CHANGE_ROLE, List.of(6L), null, Role.ADMIN),
+            ADMIN_ID);
+
+    assertThat(result.unchanged()).isEqualTo(1);
+    verify(userRepository, never()).updateRole(any(), any());
+    verify(principalCache, never()).revoke(anyMap());
+    verify(principalCache, never()).revoke(any(), anyLong());
+  }
+
+  @Test
+  void rejectsInvalidRequests() {
+    assertInvalid(new UserBulkRequest(UserBulkAction.LOCK, null, null, null));
+    assertInvalid(new UserBulkRequest(UserBulkAction.CHANGE_ROLE, List.of(2L), null, null));
+    // max-users(10) 초과
+    List<Long> tooMany = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L);
+    assertInvalid(new UserBulkRequest(UserBulkAction.LOCK, tooMany, null, null));
+    verify(transactionTemplate, never()).execute(any());
+  }
+
+  private void assertInvalid(UserBulkRequest request) {
+    assertThatThrownBy(() -> operator.apply(request, ADMIN_ID))
+        .isInstanceOfSatisfying(
+            BusinessException.class,
+            ex -> assertThat(ex.getCode()).isEqualTo(ErrorCode.INVALID_ARGUMENT));
+  }
+
+  private static User user(Long id, boolean accountNonLocked, long tokenVersion) {
+    return User.builder()
+        .id(id)
+        .username("user" + id)
+        .email("user" + id + "@example.com")
+        .password("password")
+        .accountNonLocked(accountNonLocked)
+        .tokenVersion(tokenVersion)
+        .build();
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.usertemplate.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.example.usertemplate.user.entity.Role;
+
+class JwtTokenProviderTest {
+
+  private static final String SECRET =
+      "myVerySecretKeyForJwtTokenGenerationAndValidationThatMustBeLongEnough";
+
+  private final JwtTokenProvider fastProvider = new JwtTokenProvider(SECRET, 86400000, true);
+  private final JwtTokenProvider jjwtProvider = new JwtTokenProvider(SECRET, 86400000, false);
+
+  @Test
+  void fastPathMatchesJjwtForIssuedAccessToken() {
+    UserPrincipal principal = new UserPrincipal(42L, Role.ADMIN, true, false, 3);
+    String token = fastProvider.generateAccessToken(principal);
+
+    VerifiedToken fast = fastProvider.parseToken(token);
+    VerifiedToken jjwt = jjwtProvider.parseToken(token);
+
+    assertThat(fast).isNotNull();
+    assertThat(fast).isEqualTo(jjwt);
+    assertThat(fast.principal()).isEqualTo(principal);
+  }
+
+  @Test
+  void parsesTokenWithoutPrincipalClaims() {
+    UserDetails legacyPrincipal = User.withUsername("7").password("unused").build();
+    String token =
+        fastProvider.generateAccessToken(
+            new UsernamePasswordAuthenticationToken(legacyPrincipal, null));
+
+    VerifiedToken verified = fastProvider.parseToken(token);
+
+    assertThat(verified).isNotNull();
+    assertThat(verified.userId()).isEqualTo(7L);
+    assertThat(verified.principal()).isNull();
+  }
+
+  @Test
+  void rejectsTamperedAndExpiredTokens() {
+    UserPrincipal principal = new UserPrincipal(1L, Role.USER, true, true, 0);
+    String token = fastProvider.generateAccessToken(principal);
+    String tampered = token.substring(0, token.length() - 4) + "AAAA";
+    JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1000, true);
+    String expired = expiredProvider.generateAccessToken(principal);
+
+    assertThat(fastProvider.parseToken(tampered)).isNull();
+    assertThat(fastProvider.parseToken(expired)).isNull();
+  }
+}
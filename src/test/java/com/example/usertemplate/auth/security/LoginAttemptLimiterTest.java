@@ -0,0 +1,73 @@
+package com.example.usertemplate.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginAttemptLimiterTest {
+
+  // 대기 시간이 초 경계에 걸려 0 이 되지 않도록 기본 대기를 길게 둔다
+  private final LoginAttemptLimiter limiter =
+      new LoginAttemptLimiter(
+          new SimpleMeterRegistry(),
+          65536,
+          3,
+          10,
+          5,
+          Duration.ofMinutes(1),
+          Duration.ofMinutes(5),
+          Duration.ofMinutes(15));
+
+  @Test
+  void throttlesUsernameAfterFreeAttempts() {
+    for (int i = 0; i < 3; i++) {
+      assertThatCode(() -> limiter.checkAllowed("alice", "10.0.0.1")).doesNotThrowAnyException();
+      limiter.recordFailure("alice", "10.0.0.1");
+    }
+
+    assertThrottled("alice", "10.0.0.1");
+  }
+
+  @Test
+  void successClearsUsernameButNotIp() {
+    for (int i = 0; i < 10; i++) {
+      limiter.recordFailure("user" + i, "10.0.0.2");
+    }
+    limiter.recordFailure("bob", "10.0.0.3");
+    limiter.recordFailure("bob", "10.0.0.3");
+    limiter.recordFailure("bob", "10.0.0.3");
+
+    limiter.recordSuccess("bob");
+
+    assertThatCode(() -> limiter.checkAllowed("bob", "10.0.0.3")).doesNotThrowAnyException();
+    assertThrottled("someone-else", "10.0.0.2");
+  }
+
+  @Test
+  void reportsLockThresholdOnce() {
+    int reached = 0;
+    for (int i = 0; i < 8; i++) {
+      if (limiter.recordFailure("carol", "10.0.0.4")) {
+        reached++;
+      }
+    }
+
+    assertThat(reached).isEqualTo(1);
+  }
+
+  private void assertThrottled(String username, String clientIp) {
+    assertThatThrownBy(() -> limiter.checkAllowed(username, clientIp))
+        .isInstanceOfSatisfying(
+            BusinessException.class,
+            ex -> assertThat(ex.getCode()).isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS));
+  }
+}
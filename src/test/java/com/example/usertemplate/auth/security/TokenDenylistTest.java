@@ -0,0 +1,51 @@
+package com.example.usertemplate.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenDenylistTest {
+
+  private final TokenDenylist denylist = new TokenDenylist(new SimpleMeterRegistry(), 16);
+
+  @Test
+  void keepsEntriesAcrossResizes() {
+    long expiresAt = System.currentTimeMillis() + 3_600_000;
+    for (long id = 1; id <= 5_000; id++) {
+      denylist.revoke(id * 0x9e3779b97f4a7c15L, expiresAt);
+    }
+
+    for (long id = 1; id <= 5_000; id++) {
+      assertThat(denylist.isRevoked(id * 0x9e3779b97f4a7c15L)).isTrue();
+    }
+    assertThat(denylist.isRevoked(12345L)).isFalse();
+    assertThat(denylist.isRevoked(0L)).isFalse();
+  }
+
+  @Test
+  void dropsEntriesWhenTokensExpireOnEveryWheelLevel() {
+    long now = System.currentTimeMillis();
+    long nowSeconds = now / 1000;
+    // 초, 분, 시간 단계에 각각 배치되는 만료 시각
+    long[] lifetimesSeconds = {30, 600, 20 * 3600};
+    for (int i = 0; i < lifetimesSeconds.length; i++) {
+      denylist.revoke(i + 1, (nowSeconds + lifetimesSeconds[i]) * 1000);
+    }
+
+    for (int i = 0; i < lifetimesSeconds.length; i++) {
+      denylist.advanceTo(nowSeconds + lifetimesSeconds[i] - 2);
+      assertThat(denylist.isRevoked(i + 1)).isTrue();
+      denylist.advanceTo(nowSeconds + lifetimesSeconds[i] + 1);
+      assertThat(denylist.isRevoked(i + 1)).isFalse();
+    }
+  }
+
+  @Test
+  void ignoresAlreadyExpiredTokens() {
+    denylist.revoke(7L, System.currentTimeMillis() - 1000);
+
+    assertThat(denylist.isRevoked(7L)).isFalse();
+  }
+}
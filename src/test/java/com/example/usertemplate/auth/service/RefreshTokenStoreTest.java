@@ -0,0 +1,122 @@
+package com.example.usertemplate.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.example.usertemplate.auth.entity.RefreshToken;
+import com.example.usertemplate.auth.repository.RefreshTokenRepository;
+import com.example.usertemplate.auth.security.PrincipalCache;
+import com.example.usertemplate.auth.security.UserPrincipal;
+import com.example.usertemplate.global.exception.BusinessException;
+import com.example.usertemplate.global.exception.ErrorCode;
+import com.example.usertemplate.user.entity.Role;
+
+class RefreshTokenStoreTest {
+
+  private static final UserPrincipal PRINCIPAL = new UserPrincipal(7L, Role.USER, true, true, 2);
+
+  private final RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+  private final PrincipalCache principalCache = mock(PrincipalCache.class);
+  private final RefreshTokenStore store =
+      new RefreshTokenStore(repository, principalCache, 3_600_000, 1000);
+
+  // 마지막으로 발급된 토큰 원문 (rotate 에 제출하는 값)
+  private String lastToken;
+
+  @Test
+  void rotatesWithinTheSameFamily() {
+    RefreshToken issued = issue();
+    when(repository.markUsed(eq(issued.getId()), any())).thenReturn(1);
+    when(principalCache.get(7L)).thenReturn(PRINCIPAL);
+
+    RefreshTokenStore.Rotation rotation = store.rotate(lastToken);
+
+    assertThat(rotation.principal()).isEqualTo(PRINCIPAL);
+    assertThat(rotation.refreshToken()).isNotEqualTo(lastToken);
+    ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+    verify(repository, times(2)).save(saved.capture());
+    assertThat(saved.getValue().getFamilyId()).isEqualTo(issued.getFamilyId());
+    verify(repository, never()).revokeFamily(anyString());
+  }
+
+  @Test
+  void revokesFamilyWhenUsedTokenIsPresentedAgain() {
+    RefreshToken issued = issue(LocalDateTime.now().minusMinutes(1));
+
+    assertRejected(ErrorCode.REFRESH_TOKEN_REUSED);
+    verify(repository).revokeFamily(issued.getFamilyId());
+    verify(repository, never()).markUsed(any(), any());
+  }
+
+  @Test
+  void revokesFamilyWhenConcurrentRotationWonTheRace() {
+    RefreshToken issued = issue();
+    when(repository.markUsed(eq(issued.getId()), any())).thenReturn(0);
+
+    assertRejected(ErrorCode.REFRESH_TOKEN_REUSED);
+    verify(repository).revokeFamily(issued.getFamilyId());
+  }
+
+  @Test
+  void revokesFamilyWhenTokensWereRevokedForTheUser() {
+    RefreshToken issued = issue();
+    when(repository.markUsed(eq(issued.getId()), any())).thenReturn(1);
+    when(principalCache.get(7L)).thenReturn(new UserPrincipal(7L, Role.USER, true, true, 3));
+
+    assertRejected(ErrorCode.INVALID_REFRESH_TOKEN);
+    verify(repository).revokeFamily(issued.getFamilyId());
+  }
+
+  @Test
+  void rejectsUnknownToken() {
+    when(repository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+    lastToken = "unknown";
+    assertRejected(ErrorCode.INVALID_REFRESH_TOKEN);
+    verify(repository, never()).revokeFamily(anyString());
+  }
+
+  private RefreshToken issue() {
+    return issue(null);
+  }
+
+  // 발급된 토큰을 저장된 그대로 (id 와 usedAt 만 채워) 조회되게 한다
+  private RefreshToken issue(LocalDateTime usedAt) {
+    lastToken = store.issue(PRINCIPAL);
+    ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+    verify(repository).save(saved.capture());
+    RefreshToken token = saved.getValue();
+    RefreshToken stored =
+        RefreshToken.builder()
+            .id(1L)
+            .tokenHash(token.getTokenHash())
+            .familyId(token.getFamilyId())
+            .userId(token.getUserId())
+            .tokenVersion(token.getTokenVersion())
+            .expiresAt(token.getExpiresAt())
+            .usedAt(usedAt)
+            .build();
+    when(repository.findByTokenHash(token.getTokenHash())).thenReturn(Optional.of(stored));
+    return stored;
+  }
+
+  private void assertRejected(ErrorCode code) {
+    assertThatThrownBy(() -> store.rotate(lastToken))
+        .isInstanceOfSatisfying(
+            BusinessException.class, ex -> assertThat(ex.getCode()).isEqualTo(code));
+  }
+}
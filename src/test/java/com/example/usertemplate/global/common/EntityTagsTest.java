@@ -0,0 +1,41 @@
+package com.example.usertemplate.global.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.usertemplate.global.exception.BusinessException;
+
+class EntityTagsTest {
+
+  @Test
+  void matchesIfNoneMatchWithWeakComparison() {
+    String eTag = EntityTags.of(1L, 3);
+
+    assertThat(EntityTags.matches(eTag, eTag)).isTrue();
+    assertThat(EntityTags.matches("W/" + eTag, eTag)).isTrue();
+    assertThat(EntityTags.matches("\"other\", " + eTag, eTag)).isTrue();
+    assertThat(EntityTags.matches("*", eTag)).isTrue();
+    assertThat(EntityTags.matches(EntityTags.of(1L, 2), eTag)).isFalse();
+    assertThat(EntityTags.matches(null, eTag)).isFalse();
+    assertThat(EntityTags.matches(eTag, null)).isFalse();
+  }
+
+  @Test
+  void readsExpectedVersionFromIfMatch() {
+    assertThat(EntityTags.expectedVersion(EntityTags.of(7L, 12), 7L)).isEqualTo(12);
+    assertThat(EntityTags.expectedVersion(null, 7L)).isEqualTo(EntityTags.ANY_VERSION);
+    assertThat(EntityTags.expectedVersion("*", 7L)).isEqualTo(EntityTags.ANY_VERSION);
+  }
+
+  @Test
+  void rejectsWeakOrForeignIfMatch() {
+    assertThatThrownBy(() -> EntityTags.expectedVersion("W/" + EntityTags.of(7L, 12), 7L))
+        .isInstanceOf(BusinessException.class);
+    assertThatThrownBy(() -> EntityTags.expectedVersion(EntityTags.of(8L, 12), 7L))
+        .isInstanceOf(BusinessException.class);
+    assertThatThrownBy(() -> EntityTags.expectedVersion("\"7-x\"", 7L))
+        .isInstanceOf(BusinessException.class);
+  }
+}
@@ -0,0 +1,88 @@
+package com.example.usertemplate.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.usertemplate.auth.repository.RefreshTokenRepository;
+import com.example.usertemplate.user.dto.UserIdentity;
+import com.example.usertemplate.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserPurgerTest {
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+  private final UserAvailabilityIndex availabilityIndex = mock(UserAvailabilityIndex.class);
+  private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  UserPurgerTest() {
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  @Test
+  void purgesInBatchesUntilAShortBatch() {
+    when(userRepository.findPurgeableIds(any(), eq(2)))
+        .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    when(userRepository.purgeDeleted(any())).thenReturn(2, 2, 1);
+    when(userRepository.findDeletedIdentities(List.of(5L)))
+        .thenReturn(List.of(new UserIdentity("eve", "eve@example.com")));
+
+    purger(10).purge();
+
+    verify(userRepository, times(3)).purgeDeleted(any());
+    verify(refreshTokenRepository).deleteByUserIds(List.of(5L));
+    verify(availabilityIndex).remove("eve", "eve@example.com");
+    assertThat(meterRegistry.counter("users.purge.deleted").count()).isEqualTo(5);
+  }
+
+  @Test
+  void stopsAfterMaxBatches() {
+    when(userRepository.findPurgeableIds(any(), eq(2))).thenReturn(List.of(1L, 2L));
+    when(userRepository.purgeDeleted(any())).thenReturn(2);
+
+    purger(3).purge();
+
+    verify(userRepository, times(3)).purgeDeleted(any());
+  }
+
+  @Test
+  void doesNothingWithoutPurgeableUsers() {
+    when(userRepository.findPurgeableIds(any(), eq(2))).thenReturn(List.of());
+
+    purger(10).purge();
+
+    verify(userRepository, never()).purgeDeleted(any());
+    verify(refreshTokenRepository, never()).deleteByUserIds(any());
+  }
+
+  private UserPurger purger(int maxBatches) {
+    return new UserPurger(
+        userRepository,
+        refreshTokenRepository,
+        availabilityIndex,
+        transactionTemplate,
+        meterRegistry,
+        Duration.ofHours(24),
+        2,
+        maxBatches,
+        Duration.ZERO);
+  }
+}